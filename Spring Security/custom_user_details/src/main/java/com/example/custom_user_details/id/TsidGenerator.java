@@ -0,0 +1,90 @@
+package com.example.custom_user_details.id;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID 생성기 (TSID / Snowflake 방식)
+ *
+ * <pre>
+ * | 부호 1 | 타임스탬프(ms, EPOCH 기준) 41 | 노드 10 | 시퀀스 12 |
+ * </pre>
+ *
+ * 상태(타임스탬프 + 시퀀스)를 AtomicLong 하나에 담아 CAS 로 갱신하므로 락 없이 동작한다.
+ * 같은 밀리초에 4096 개를 넘게 발급하거나 시계가 뒤로 가면 시퀀스가 타임스탬프 자리로 올라가
+ * 다음 밀리초를 미리 빌려 쓴다. 대기하지 않고, 발급된 ID 는 항상 단조 증가한다.
+ */
+public final class TsidGenerator {
+
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    public static final String NODE_PROPERTY = "tsid.node";
+    public static final String NODE_ENV = "TSID_NODE";
+
+    private static final TsidGenerator DEFAULT = new TsidGenerator(resolveNode());
+
+    private final long node;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public TsidGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    TsidGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 프로세스 전체에서 공유하는 생성기 (노드 번호는 시스템 프로퍼티 tsid.node → 환경변수 TSID_NODE → 임의값 순)
+     */
+    public static TsidGenerator getDefault() {
+        return DEFAULT;
+    }
+
+    public long next() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH;
+            long previous = state.get();
+            long updated = (now > previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if (state.compareAndSet(previous, updated)) {
+                long timestamp = updated >>> SEQUENCE_BITS;
+                long sequence = updated & SEQUENCE_MASK;
+                return timestamp << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | sequence;
+            }
+        }
+    }
+
+    public int getNode() {
+        return (int) node;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE;
+    }
+
+    private static int resolveNode() {
+        String configured = System.getProperty(NODE_PROPERTY, System.getenv(NODE_ENV));
+        if (configured == null || configured.isBlank()) {
+            // 여러 인스턴스를 띄울 때는 노드 번호를 명시해야 충돌이 없다
+            return ThreadLocalRandom.current().nextInt(MAX_NODE + 1);
+        }
+        return Integer.parseInt(configured.trim());
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.custom_user_details.model;
 
+import com.example.custom_user_details.id.TsidId;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +19,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
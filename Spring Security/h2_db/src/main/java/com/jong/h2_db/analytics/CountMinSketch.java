@@ -0,0 +1,57 @@
+package com.jong.h2_db.analytics;
+
+import com.jong.h2_db.support.Hashing;
+
+/**
+ * Count-Min Sketch: 고정 메모리(depth x width)로 항목 빈도를 과대 추정한다.
+ * 오차는 전체 건수의 e/width 이하일 확률이 1 - e^-depth 이상이다.
+ * 동기화하지 않으므로 호출 측에서 보호해야 한다.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] table;
+    private long total;
+
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth][width];
+    }
+
+    public void add(String item, long count) {
+        long hash = Hashing.hash64(item);
+        for (int row = 0; row < depth; row++) {
+            table[row][index(hash, row)] += count;
+        }
+        total += count;
+    }
+
+    public long estimate(String item) {
+        long hash = Hashing.hash64(item);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row][index(hash, row)]);
+        }
+        return min;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    /**
+     * 추정치가 실제보다 클 수 있는 최대 폭 (e / width * total)
+     */
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    // 이중 해싱: h1 + row * h2
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,135 @@
+package com.jong.h2_db.analytics;
+
+import com.jong.h2_db.dto.DomainCount;
+import com.jong.h2_db.dto.EmailDomainStats;
+import com.jong.h2_db.event.CustomerChangeType;
+import com.jong.h2_db.event.CustomerChangedEvent;
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.shard.CustomerShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 고객 이메일 도메인 통계 (스트리밍 스케치)
+ * 고객 수와 무관한 고정 메모리로 도메인 빈도(Count-Min + Space-Saving)와 고유 도메인 수(HyperLogLog)를 유지한다.
+ * 기동 시 한 번 전체를 훑어 채우고, 이후에는 고객 생성이 커밋될 때마다 갱신한다.
+ * 감사용으로 GROUP BY 로 다시 세는 exact 모드를 함께 제공한다.
+ */
+@Slf4j
+@Component
+public class EmailDomainAnalytics {
+
+    public static final int TOP_CAPACITY = 256;
+
+    private static final int SKETCH_DEPTH = 5;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int HLL_PRECISION = 12;
+
+    private final CustomerShards customerShards;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private Sketches sketches = new Sketches();
+
+    public EmailDomainAnalytics(CustomerShards customerShards, PlatformTransactionManager transactionManager) {
+        this.customerShards = customerShards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Sketches rebuilt = new Sketches();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            customerShards.forEachShard(repository -> {
+                try (Stream<String> emails = repository.streamAllEmails()) {
+                    emails.forEach(email -> rebuilt.add(domainOf(email)));
+                }
+            });
+        });
+        synchronized (this) {
+            sketches = rebuilt;
+        }
+        log.debug("Email domain sketches built: {} customers in {}ms",
+                rebuilt.frequencies.total(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.type() != CustomerChangeType.CREATED) {
+            return;
+        }
+        customerShards.findById(event.customerId())
+                .map(Customer::getEmail)
+                .ifPresent(this::record);
+    }
+
+    public synchronized void record(String email) {
+        sketches.add(domainOf(email));
+    }
+
+    public synchronized EmailDomainStats topDomains(int limit) {
+        List<DomainCount> top = new ArrayList<>();
+        for (SpaceSaving.Entry entry : sketches.heavyHitters.top(limit)) {
+            // 두 추정치 모두 과대 추정이므로 작은 쪽을 사용
+            long estimate = Math.min(entry.count(), sketches.frequencies.estimate(entry.item()));
+            long error = Math.min(entry.error(), sketches.frequencies.errorBound());
+            top.add(new DomainCount(entry.item(), estimate, error));
+        }
+        top.sort(Comparator.comparingLong(DomainCount::count).reversed().thenComparing(DomainCount::domain));
+        return new EmailDomainStats("sketch", sketches.frequencies.total(), sketches.distinctDomains.estimate(), top);
+    }
+
+    public synchronized long estimateCount(String domain) {
+        return sketches.frequencies.estimate(domain.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 감사용 정확한 집계 (테이블 전체 GROUP BY)
+     */
+    public EmailDomainStats exactTopDomains(int limit) {
+        // 대소문자만 다른 도메인은 하나로 합침 (스케치와 같은 기준)
+        Map<String, Long> counts = new HashMap<>();
+        long customers = 0;
+        for (Object[] row : customerShards.countCustomersByEmailDomain()) {
+            long count = (Long) row[1];
+            counts.merge(((String) row[0]).toLowerCase(Locale.ROOT), count, Long::sum);
+            customers += count;
+        }
+        List<DomainCount> all = new ArrayList<>(counts.size());
+        counts.forEach((domain, count) -> all.add(new DomainCount(domain, count, 0)));
+        all.sort(Comparator.comparingLong(DomainCount::count).reversed().thenComparing(DomainCount::domain));
+        return new EmailDomainStats("exact", customers, all.size(), all.subList(0, Math.min(limit, all.size())));
+    }
+
+    static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return (at < 0 ? "" : email.substring(at + 1)).toLowerCase(Locale.ROOT);
+    }
+
+    private static class Sketches {
+        private final CountMinSketch frequencies = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        private final SpaceSaving heavyHitters = new SpaceSaving(TOP_CAPACITY);
+        private final HyperLogLog distinctDomains = new HyperLogLog(HLL_PRECISION);
+
+        void add(String domain) {
+            frequencies.add(domain, 1);
+            heavyHitters.add(domain, 1);
+            distinctDomains.add(domain);
+        }
+    }
+}
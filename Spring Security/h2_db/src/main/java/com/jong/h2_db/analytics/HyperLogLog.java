@@ -0,0 +1,63 @@
+package com.jong.h2_db.analytics;
+
+import com.jong.h2_db.support.Hashing;
+
+/**
+ * HyperLogLog 고유 항목 수 추정 (2^precision 개의 레지스터, 표준 오차 약 1.04 / sqrt(2^precision))
+ * 동기화하지 않으므로 호출 측에서 보호해야 한다.
+ */
+public class HyperLogLog {
+
+    private final int precision;
+    private final int registerCount;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision 은 4 ~ 18 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.registers = new byte[registerCount];
+    }
+
+    public void add(String item) {
+        long hash = Hashing.hash64(item);
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트에서 첫 1 의 위치 (모두 0 이면 최댓값)
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+        double estimate = alpha * registerCount * registerCount / sum;
+
+        // 작은 범위는 선형 카운팅으로 보정
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public double standardError() {
+        return 1.04 / Math.sqrt(registerCount);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jong.h2_db.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 K 빈도 항목 (heavy hitters)
+ * 최대 capacity 개만 추적하고, 가득 차면 가장 작은 항목을 새 항목으로 교체하면서 그 값을 오차로 물려준다.
+ * 실제 빈도가 전체의 1/capacity 를 넘는 항목은 반드시 남는다. 동기화하지 않으므로 호출 측에서 보호해야 한다.
+ */
+public class SpaceSaving {
+
+    public record Entry(String item, long count, long error) {
+    }
+
+    private final int capacity;
+    private final Map<String, long[]> counters;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void add(String item, long count) {
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0] += count;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[]{count, 0});
+            return;
+        }
+
+        // 가장 작은 항목을 밀어내고 그 건수를 오차로 승계
+        String minItem = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < minCount) {
+                minCount = entry.getValue()[0];
+                minItem = entry.getKey();
+            }
+        }
+        counters.remove(minItem);
+        counters.put(item, new long[]{minCount + count, minCount});
+    }
+
+    public List<Entry> top(int n) {
+        List<Entry> entries = new ArrayList<>(counters.size());
+        counters.forEach((item, counter) -> entries.add(new Entry(item, counter[0], counter[1])));
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::item));
+        return entries.subList(0, Math.min(n, entries.size()));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,24 @@
+package com.jong.h2_db.cache;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 조회 결과 캐시에 올리는 쿼리 정의 (이름 + 결과가 의존하는 태그)
+ */
+public record CachedQuery(String name, Set<QueryTag> tags) {
+
+    public CachedQuery {
+        // EnumSet 순서(선언 순)로 고정해서 세대 스냅샷과 같은 순서로 순회
+        tags = Collections.unmodifiableSet(EnumSet.copyOf(tags));
+    }
+
+    public static CachedQuery of(String name, QueryTag first, QueryTag... rest) {
+        return new CachedQuery(name, EnumSet.of(first, rest));
+    }
+
+    public boolean isProductQuery() {
+        return tags.stream().allMatch(QueryTag::isProductTag);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jong.h2_db.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jong.h2_db.dto.CacheStatistics;
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 단건 조회용 읽기 캐시 (크기 + TTL 기반 제거)
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private final Cache<Long, Product> cache;
+
+    // 무효화가 일어날 때마다 증가. 조회 도중 무효화가 있었다면 읽은 값을 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductCache(@Value("${app.product-cache.maximum-size:10000}") long maximumSize,
+                        @Value("${app.product-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Product> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void putIfUnchanged(Product product, long stamp) {
+        if (invalidations.get() == stamp) {
+            cache.put(product.getId(), product);
+        }
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // 쓰기 트랜잭션 안에서 즉시 제거
+    @EventListener
+    public void evictOnChange(ProductChangedEvent event) {
+        log.trace("Evicting product {} before commit ({})", event.productId(), event.type());
+        evict(event);
+    }
+
+    // 커밋/롤백 직후 한 번 더 제거하여 트랜잭션 도중 다시 적재된 값(롤백된 행 포함)을 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void evictAfterCompletion(ProductChangedEvent event) {
+        log.trace("Evicting product {} after completion ({})", event.productId(), event.type());
+        evict(event);
+    }
+
+    private void evict(ProductChangedEvent event) {
+        if (event.isBulk()) {
+            evictAll();
+        } else {
+            evict(event.productId());
+        }
+    }
+
+    public CacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
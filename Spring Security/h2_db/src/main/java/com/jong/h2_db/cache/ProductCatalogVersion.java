@@ -0,0 +1,31 @@
+package com.jong.h2_db.cache;
+
+import com.jong.h2_db.dto.ResourceVersion;
+import com.jong.h2_db.event.ProductChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 상품 목록 전체의 버전 (목록 엔드포인트 ETag 용)
+ * 상품 변경이 커밋될 때마다 증가하며, 재시작 시 값이 달라지도록 기동 시각을 함께 사용한다.
+ */
+@Component
+public class ProductCatalogVersion {
+
+    private final long epoch = System.currentTimeMillis();
+    private volatile ResourceVersion current = ResourceVersion.ofCatalog(epoch, 0, Instant.ofEpochMilli(epoch));
+    private long version;
+
+    public ResourceVersion current() {
+        return current;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        version++;
+        current = ResourceVersion.ofCatalog(epoch, version, Instant.now());
+    }
+}
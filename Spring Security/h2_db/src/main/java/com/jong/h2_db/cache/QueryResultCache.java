@@ -0,0 +1,159 @@
+package com.jong.h2_db.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jong.h2_db.dto.QueryCacheStats;
+import com.jong.h2_db.event.CustomerChangedEvent;
+import com.jong.h2_db.event.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 검색형 조회의 결과 목록 캐시 (크기 + TTL 기반 제거, 태그 기반 무효화)
+ * <ul>
+ *     <li>키는 쿼리 이름 + 정규화된 파라미터, 값은 결과 ID 목록이다. 엔티티는 호출 측이 단건 캐시 / PK 조회로 채우므로
+ *     결과에 영향을 주지 않는 속성이 바뀌어도 응답 내용은 최신이다.</li>
+ *     <li>태그마다 세대 번호를 두고 항목에는 적재 시점의 세대를 함께 저장한다. 무효화는 세대 증가 한 번이며,
+ *     조회 시 세대가 달라진 항목은 버린다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QueryResultCache {
+
+    private final Cache<Key, Entry> cache;
+    private final Map<QueryTag, AtomicLong> generations = new EnumMap<>(QueryTag.class);
+    private final Map<String, QueryCounters> counters = new ConcurrentHashMap<>();
+
+    public QueryResultCache(@Value("${app.query-cache.maximum-size:1000}") long maximumSize,
+                            @Value("${app.query-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        for (QueryTag tag : QueryTag.values()) {
+            generations.put(tag, new AtomicLong());
+        }
+    }
+
+    /**
+     * 캐시된 결과가 있고 태그가 무효화되지 않았다면 그대로, 아니면 loader 결과를 적재 후 반환
+     *
+     * @param params 정규화된 파라미터 (같은 의미의 호출은 같은 값이어야 함)
+     */
+    public List<Long> get(CachedQuery query, List<?> params, Supplier<List<Long>> loader) {
+        QueryCounters stats = counters.computeIfAbsent(query.name(), name -> new QueryCounters(query));
+        Key key = new Key(query.name(), List.copyOf(params));
+
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            if (Arrays.equals(entry.generations(), generationsOf(query.tags()))) {
+                stats.hits.increment();
+                return entry.ids();
+            }
+            cache.asMap().remove(key, entry);
+            stats.invalidated.increment();
+        }
+
+        stats.misses.increment();
+        long[] before = generationsOf(query.tags());
+        List<Long> ids = List.copyOf(loader.get());
+        // 조회 도중 무효화가 있었다면 읽은 결과가 이미 낡았을 수 있으므로 적재하지 않는다
+        if (Arrays.equals(before, generationsOf(query.tags()))) {
+            cache.put(key, new Entry(ids, before));
+        }
+        return ids;
+    }
+
+    public void invalidate(Set<QueryTag> tags) {
+        for (QueryTag tag : tags) {
+            generations.get(tag).incrementAndGet();
+        }
+    }
+
+    // 쓰기 트랜잭션 안에서 즉시 무효화
+    @EventListener
+    public void invalidateOnProductChange(ProductChangedEvent event) {
+        log.trace("Invalidating product queries before commit ({})", event.type());
+        invalidate(QueryTag.affectedBy(event.type()));
+    }
+
+    // 커밋/롤백 직후 한 번 더 무효화하여 트랜잭션 도중 다시 적재된 결과(롤백된 행 포함)를 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void invalidateAfterProductCompletion(ProductChangedEvent event) {
+        log.trace("Invalidating product queries after completion ({})", event.type());
+        invalidate(QueryTag.affectedBy(event.type()));
+    }
+
+    @EventListener
+    public void invalidateOnCustomerChange(CustomerChangedEvent event) {
+        log.trace("Invalidating customer queries before commit ({})", event.type());
+        invalidate(QueryTag.affectedBy(event.type()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void invalidateAfterCustomerCompletion(CustomerChangedEvent event) {
+        log.trace("Invalidating customer queries after completion ({})", event.type());
+        invalidate(QueryTag.affectedBy(event.type()));
+    }
+
+    public List<QueryCacheStats> statistics(Predicate<CachedQuery> filter) {
+        return counters.values().stream()
+                .filter(c -> filter.test(c.query))
+                .map(QueryCounters::toStats)
+                .sorted(Comparator.comparing(QueryCacheStats::query))
+                .toList();
+    }
+
+    private long[] generationsOf(Set<QueryTag> tags) {
+        long[] snapshot = new long[tags.size()];
+        int i = 0;
+        for (QueryTag tag : tags) {
+            snapshot[i++] = generations.get(tag).get();
+        }
+        return snapshot;
+    }
+
+    private record Key(String query, List<?> params) {
+    }
+
+    private record Entry(List<Long> ids, long[] generations) {
+    }
+
+    private static class QueryCounters {
+        private final CachedQuery query;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidated = new LongAdder();
+
+        QueryCounters(CachedQuery query) {
+            this.query = query;
+        }
+
+        QueryCacheStats toStats() {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long total = hitCount + missCount;
+            return new QueryCacheStats(query.name(),
+                    query.tags().stream().map(QueryTag::name).toList(),
+                    hitCount, missCount, total == 0 ? 0 : (double) hitCount / total, invalidated.sum());
+        }
+    }
+}
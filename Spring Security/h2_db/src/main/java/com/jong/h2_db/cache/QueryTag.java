@@ -0,0 +1,50 @@
+package com.jong.h2_db.cache;
+
+import com.jong.h2_db.event.CustomerChangeType;
+import com.jong.h2_db.event.ProductChangeType;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 조회 결과 캐시의 무효화 태그 (엔티티 + 결과에 영향을 주는 속성)
+ * 생성/삭제는 어떤 조회 결과에든 행을 추가하거나 뺄 수 있으므로 해당 엔티티의 모든 태그를 무효화한다.
+ */
+public enum QueryTag {
+
+    PRODUCT_NAME,
+    PRODUCT_PRICE,
+    PRODUCT_STOCK,
+    PRODUCT_STATUS,
+    CUSTOMER_NAME,
+    CUSTOMER_ADDRESS,
+    CUSTOMER_BIRTH_DATE,
+    CUSTOMER_STATUS;
+
+    private static final Set<QueryTag> PRODUCT_TAGS = EnumSet.range(PRODUCT_NAME, PRODUCT_STATUS);
+    private static final Set<QueryTag> CUSTOMER_TAGS = EnumSet.range(CUSTOMER_NAME, CUSTOMER_STATUS);
+
+    public boolean isProductTag() {
+        return PRODUCT_TAGS.contains(this);
+    }
+
+    public static Set<QueryTag> affectedBy(ProductChangeType type) {
+        return switch (type) {
+            case CREATED, DELETED -> PRODUCT_TAGS;
+            // updateProduct 는 이름, 설명, 가격, 재고를 바꾸고 상태는 건드리지 않는다
+            case UPDATED -> EnumSet.of(PRODUCT_NAME, PRODUCT_PRICE, PRODUCT_STOCK);
+            case PRICE_CHANGED -> EnumSet.of(PRODUCT_PRICE);
+            case STOCK_CHANGED -> EnumSet.of(PRODUCT_STOCK);
+            case STATUS_CHANGED -> EnumSet.of(PRODUCT_STATUS);
+        };
+    }
+
+    public static Set<QueryTag> affectedBy(CustomerChangeType type) {
+        return switch (type) {
+            case CREATED -> CUSTOMER_TAGS;
+            // updateCustomer 는 이름, 전화번호, 주소만 변경 (생년월일은 변경 불가)
+            case UPDATED -> EnumSet.of(CUSTOMER_NAME, CUSTOMER_ADDRESS);
+            case STATUS_CHANGED -> EnumSet.of(CUSTOMER_STATUS);
+        };
+    }
+}
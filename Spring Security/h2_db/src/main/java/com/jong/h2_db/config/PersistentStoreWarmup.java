@@ -0,0 +1,63 @@
+package com.jong.h2_db.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 기반 DB 기동 시 자주 읽는 테이블과 인덱스 페이지를 미리 읽어 둔다
+ * 메모리 매핑된 파일은 처음 접근할 때 페이지 폴트로 디스크를 읽으므로, 첫 요청이 그 비용을 내지 않도록
+ * 웹 서버가 요청을 받기 전 (모든 싱글톤 생성 직후) 에 테이블 전체와 각 인덱스를 한 번씩 순회한다.
+ */
+@Slf4j
+@Component
+@Profile("persistent")
+@ConditionalOnProperty(prefix = "app.persistent.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PersistentStoreWarmup implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<String> tables;
+
+    public PersistentStoreWarmup(DataSource dataSource,
+                                 @Value("${app.persistent.warmup.tables:products,customers}") List<String> tables) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.tables = tables;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        AtomicLong rows = new AtomicLong();
+        for (String table : tables) {
+            String name = table.trim().toUpperCase(Locale.ROOT);
+            // 기본 키 인덱스(=행 데이터) 순회
+            jdbcTemplate.query("SELECT * FROM " + name, rs -> {
+                rows.incrementAndGet();
+            });
+            // 보조 인덱스는 첫 번째 컬럼만 읽어 인덱스 페이지만 순회
+            List<String[]> indexes = jdbcTemplate.query(
+                    "SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                            "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ? AND ORDINAL_POSITION = 1",
+                    (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)}, name);
+            for (String[] index : indexes) {
+                jdbcTemplate.query("SELECT " + index[1] + " FROM " + name + " USE INDEX (" + index[0] + ")" +
+                        " ORDER BY " + index[1], rs -> {
+                    rows.incrementAndGet();
+                });
+            }
+            log.debug("Warmed up {} ({} indexes)", name, indexes.size());
+        }
+        log.info("Persistent store warmup: {} tables, {} rows/index entries touched in {}ms",
+                tables.size(), rows.get(), System.currentTimeMillis() - start);
+    }
+}
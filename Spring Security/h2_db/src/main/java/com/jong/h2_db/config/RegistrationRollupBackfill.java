@@ -0,0 +1,28 @@
+package com.jong.h2_db.config;
+
+import com.jong.h2_db.service.RegistrationRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 롤업이 비어 있으면 한 번 백필 (초기 데이터 등 롤업을 거치지 않고 저장된 고객 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegistrationRollupBackfill {
+
+    private final RegistrationRollupService registrationRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!registrationRollupService.isEmpty()) {
+            log.debug("Registration rollups already populated, skipping backfill");
+            return;
+        }
+        registrationRollupService.backfill();
+    }
+}
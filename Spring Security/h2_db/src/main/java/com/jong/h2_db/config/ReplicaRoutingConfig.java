@@ -0,0 +1,64 @@
+package com.jong.h2_db.config;
+
+import com.jong.h2_db.routing.DataSourceTarget;
+import com.jong.h2_db.routing.ReadWriteRoutingDataSource;
+import com.jong.h2_db.routing.ReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (app.replicas.enabled=true 일 때만)
+ * 주 DB 는 spring.datasource 설정을 그대로 쓰고, 복제본은 같은 계정의 별도 H2 메모리 DB 로 만든다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRouter replicaRouter(DataSourceProperties properties,
+                                       @Value("${app.replicas.count:2}") int replicaCount,
+                                       @Value("${app.replicas.pool-size:10}") int poolSize,
+                                       @Value("${app.replicas.max-lag:PT2S}") Duration maxLag,
+                                       @Value("${app.replicas.read-your-writes-window:PT5S}") Duration readYourWritesWindow) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMaximumPoolSize(poolSize);
+
+        List<DataSourceTarget> replicas = new ArrayList<>(replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl("jdbc:h2:mem:replica" + i + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(poolSize);
+            // 재적재 동안 새 커넥션 대여를 멈추기 위해 필요
+            replica.setAllowPoolSuspension(true);
+            replicas.add(new DataSourceTarget(replica.getPoolName(), DataSourceTarget.Role.REPLICA, replica));
+        }
+        log.info("Routing read-only transactions across {} replicas (max lag {}, read-your-writes window {})",
+                replicaCount, maxLag, readYourWritesWindow);
+        return new ReplicaRouter(new DataSourceTarget("primary", DataSourceTarget.Role.PRIMARY, primary),
+                replicas, maxLag, readYourWritesWindow);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaRouter);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jong.h2_db.config;
+
+import com.jong.h2_db.shard.ShardCluster;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 고객 테이블 샤딩 (app.shards.enabled=true 일 때만)
+ * 0 번 샤드는 spring.datasource 설정을 그대로 쓰는 홈 샤드로 고객 외 모든 테이블을 가지며,
+ * 나머지 샤드는 같은 계정의 별도 H2 메모리 DB 로 만든다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.shards", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardCluster shardCluster(DataSourceProperties properties,
+                                     @Value("${app.shards.count:4}") int shards,
+                                     @Value("${app.shards.pool-size:10}") int poolSize,
+                                     @Value("${app.replicas.enabled:false}") boolean replicasEnabled) {
+        if (replicasEnabled) {
+            throw new IllegalStateException("app.shards 와 app.replicas 는 함께 사용할 수 없습니다");
+        }
+        log.info("Sharding customers across {} H2 databases", shards);
+        return new ShardCluster(shards, shard -> {
+            HikariDataSource pool = shard == 0
+                    ? properties.initializeDataSourceBuilder().type(HikariDataSource.class).build()
+                    : new HikariDataSource();
+            if (shard != 0) {
+                pool.setJdbcUrl("jdbc:h2:mem:customer_shard" + shard + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+                pool.setDriverClassName(properties.determineDriverClassName());
+                pool.setUsername(properties.determineUsername());
+                pool.setPassword(properties.determinePassword());
+            }
+            pool.setPoolName("customer-shard-" + shard);
+            pool.setMaximumPoolSize(poolSize);
+            return pool;
+        });
+    }
+
+    @Bean
+    public DataSource dataSource(ShardCluster shardCluster) {
+        return new LazyConnectionDataSourceProxy(shardCluster.getRoutingDataSource());
+    }
+
+    // Hibernate 가 홈 샤드에 스키마를 만든 뒤 (모든 싱글톤 생성 후) 나머지 샤드로 복사
+    @Bean
+    public SmartInitializingSingleton shardSchemaInitializer(ShardCluster shardCluster) {
+        return shardCluster::copySchemaToShards;
+    }
+}
@@ -0,0 +1,172 @@
+package com.jong.h2_db.controller;
+
+import com.jong.h2_db.dto.CustomerImportProgress;
+import com.jong.h2_db.dto.CustomerSummary;
+import com.jong.h2_db.dto.DailyRegistrationCount;
+import com.jong.h2_db.dto.EmailDomainStats;
+import com.jong.h2_db.dto.EntityCounts;
+import com.jong.h2_db.dto.ImportRowError;
+import com.jong.h2_db.dto.MonthlyRegistrationCount;
+import com.jong.h2_db.dto.QueryCacheStats;
+import com.jong.h2_db.service.CustomerImportService;
+import com.jong.h2_db.service.CustomerService;
+import com.jong.h2_db.service.RegistrationRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/customers")
+@RequiredArgsConstructor
+public class CustomerController {
+
+    private final CustomerService customerService;
+    private final RegistrationRollupService registrationRollupService;
+    private final CustomerImportService customerImportService;
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerSummary>> searchCustomers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /api/customers/search - Searching customers with query: {} (limit: {})", q, limit);
+        try {
+            return ResponseEntity.ok(customerService.searchCustomers(q, Math.min(limit, CustomerService.MAX_SEARCH_LIMIT)));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid customer search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CustomerImportProgress> importCustomers(InputStream body) {
+        log.info("POST /api/customers/import - Starting customer import");
+        CustomerImportProgress progress = customerImportService.startImport(body);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/customers/import/" + progress.jobId()))
+                .body(progress);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<CustomerImportProgress> getImportProgress(@PathVariable String jobId) {
+        log.info("GET /api/customers/import/{} - Getting import progress", jobId);
+        return customerImportService.getProgress(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/import/{jobId}/errors", produces = "text/csv")
+    public ResponseEntity<String> getImportErrors(@PathVariable String jobId) {
+        log.info("GET /api/customers/import/{}/errors - Getting rejected rows", jobId);
+        return customerImportService.getErrors(jobId)
+                .map(errors -> {
+                    StringBuilder report = new StringBuilder("line,message\n");
+                    for (ImportRowError error : errors) {
+                        report.append(error.line()).append(",\"")
+                                .append(error.message().replace("\"", "\"\"")).append("\"\n");
+                    }
+                    return ResponseEntity.ok(report.toString());
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/summaries")
+    public List<CustomerSummary> getActiveCustomerSummaries() {
+        log.info("GET /api/customers/summaries - Getting active customer summaries");
+        return customerService.getActiveCustomerSummaries();
+    }
+
+    @GetMapping("/summaries/search")
+    public List<CustomerSummary> searchCustomerSummaries(@RequestParam String name) {
+        log.info("GET /api/customers/summaries/search - Searching customer summaries with name: {}", name);
+        return customerService.searchCustomerSummariesByName(name);
+    }
+
+    @GetMapping("/segments/age")
+    public ResponseEntity<List<CustomerSummary>> getCustomersInAgeBracket(@RequestParam int min,
+                                                                          @RequestParam int max) {
+        log.info("GET /api/customers/segments/age - Getting active customers aged {} ~ {}", min, max);
+        try {
+            return ResponseEntity.ok(customerService.getActiveCustomersInAgeBracket(min, max));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid age bracket: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stats/count")
+    public long getTotalCustomerCount() {
+        log.info("GET /api/customers/stats/count - Getting total customer count");
+        return customerService.getTotalCustomerCount();
+    }
+
+    @GetMapping("/stats/count/active")
+    public long getActiveCustomerCount() {
+        log.info("GET /api/customers/stats/count/active - Getting active customer count");
+        return customerService.getActiveCustomerCount();
+    }
+
+    @GetMapping("/stats/counts")
+    public EntityCounts getCustomerCounts() {
+        log.info("GET /api/customers/stats/counts - Getting customer counts by status");
+        return customerService.getCustomerCounts();
+    }
+
+    @GetMapping("/stats/registrations/monthly")
+    public ResponseEntity<List<MonthlyRegistrationCount>> getMonthlyRegistrations(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        log.info("GET /api/customers/stats/registrations/monthly - Getting registrations from {} to {}", from, to);
+        try {
+            return ResponseEntity.ok(customerService.getMonthlyRegistrationStats(from, to));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid registration stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stats/registrations/daily")
+    public ResponseEntity<List<DailyRegistrationCount>> getDailyRegistrations(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("GET /api/customers/stats/registrations/daily - Getting registrations from {} to {}", from, to);
+        try {
+            return ResponseEntity.ok(customerService.getDailyRegistrationStats(from, to));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid registration stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/stats/registrations/backfill")
+    public ResponseEntity<Integer> backfillRegistrations() {
+        log.info("POST /api/customers/stats/registrations/backfill - Rebuilding registration rollups");
+        return ResponseEntity.ok(registrationRollupService.backfill());
+    }
+
+    @GetMapping("/stats/email-domains")
+    public ResponseEntity<EmailDomainStats> getEmailDomainStats(@RequestParam(defaultValue = "10") int limit,
+                                                                @RequestParam(defaultValue = "false") boolean exact) {
+        log.info("GET /api/customers/stats/email-domains - Getting top {} email domains (exact: {})", limit, exact);
+        try {
+            return ResponseEntity.ok(customerService.getEmailDomainStats(limit, exact));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid email domain stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stats/query-cache")
+    public ResponseEntity<List<QueryCacheStats>> getQueryCacheStatistics() {
+        log.info("GET /api/customers/stats/query-cache - Getting query result cache statistics");
+        return ResponseEntity.ok(customerService.getQueryCacheStatistics());
+    }
+}
@@ -0,0 +1,27 @@
+package com.jong.h2_db.controller;
+
+import com.jong.h2_db.dto.DataSourceTargetStats;
+import com.jong.h2_db.routing.ReplicaRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/datasources")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.replicas", name = "enabled", havingValue = "true")
+public class DataSourceController {
+
+    private final ReplicaRouter replicaRouter;
+
+    @GetMapping
+    public ResponseEntity<List<DataSourceTargetStats>> getDataSourceStats() {
+        log.info("GET /api/datasources - Getting routing and pool statistics");
+        return ResponseEntity.ok(replicaRouter.stats());
+    }
+}
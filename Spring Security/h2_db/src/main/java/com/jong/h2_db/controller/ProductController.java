@@ -1,12 +1,42 @@
 package com.jong.h2_db.controller;
 
+import com.jong.h2_db.dto.BulkPriceUpdate;
+import com.jong.h2_db.dto.BulkStatementResult;
+import com.jong.h2_db.dto.BulkStatusUpdate;
+import com.jong.h2_db.dto.BulkStockUpdate;
+import com.jong.h2_db.dto.BulkUpdateResult;
+import com.jong.h2_db.dto.CacheStatistics;
+import com.jong.h2_db.dto.CursorPage;
+import com.jong.h2_db.dto.EntityCounts;
+import com.jong.h2_db.dto.ProductBatchResult;
+import com.jong.h2_db.dto.ProductChangePage;
+import com.jong.h2_db.dto.ProductFieldRow;
+import com.jong.h2_db.dto.ProductFields;
+import com.jong.h2_db.dto.ProductImportResult;
+import com.jong.h2_db.dto.ProductSummary;
+import com.jong.h2_db.dto.QueryCacheStats;
+import com.jong.h2_db.dto.ResourceVersion;
+import com.jong.h2_db.dto.SingleFlightStats;
+import com.jong.h2_db.dto.StockReservation;
+import com.jong.h2_db.exception.InsufficientStockException;
+import com.jong.h2_db.exception.ProductNotFoundException;
 import com.jong.h2_db.model.Product;
+import com.jong.h2_db.service.ProductBulkService;
+import com.jong.h2_db.service.ProductExportService;
+import com.jong.h2_db.service.ProductImportService;
 import com.jong.h2_db.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -18,46 +48,258 @@ import java.util.Optional;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductBulkService productBulkService;
+    private final ProductImportService productImportService;
 
     @GetMapping
-    public List<Product> getAllActiveProducts() {
+    public List<Product> getAllActiveProducts(WebRequest request) {
         log.info("GET /api/products - Getting all active products");
+        if (catalogNotModified(request)) {
+            return null;
+        }
         return productService.getAllActiveProducts();
     }
 
+    @GetMapping(params = {"size", "!ids"})
+    public ResponseEntity<CursorPage<Product>> getActiveProductsPage(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam int size) {
+        log.info("GET /api/products - Getting active products page (size: {})", size);
+        try {
+            return ResponseEntity.ok(productService.getActiveProductsPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductBatchResult> getProductsByIds(@RequestParam List<Long> ids) {
+        log.info("GET /api/products?ids - Getting {} products by ids", ids.size());
+        try {
+            return ResponseEntity.ok(productService.getProductsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // ID 목록이 길어 쿼리 스트링에 담기 어려울 때 사용
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResult> getProductsByIdsBatch(@RequestBody List<Long> ids) {
+        log.info("POST /api/products/batch - Getting {} products by ids", ids.size());
+        try {
+            return ResponseEntity.ok(productService.getProductsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request) {
         log.info("GET /api/products/{} - Getting product by id", id);
+        // 버전만 먼저 조회해서 변경이 없으면 엔티티를 읽지 않고 304 응답
+        Optional<ResourceVersion> version = productService.getProductVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return null;
+        }
         Optional<Product> product = productService.getProductById(id);
         return product.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/search")
-    public List<Product> searchProducts(@RequestParam String name) {
-        log.info("GET /api/products/search - Searching products with name: {}", name);
-        return productService.searchProductsByName(name);
+    public List<Product> searchProducts(@RequestParam String name,
+                                        @RequestParam(defaultValue = "50") int limit,
+                                        WebRequest request) {
+        log.info("GET /api/products/search - Searching products with name: {} (limit: {})", name, limit);
+        if (catalogNotModified(request)) {
+            return null;
+        }
+        return productService.searchProductsByName(name, Math.min(limit, ProductService.MAX_PAGE_SIZE));
+    }
+
+    @GetMapping(value = "/search", params = "size")
+    public ResponseEntity<CursorPage<Product>> searchProductsPage(@RequestParam String name,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam int size) {
+        log.info("GET /api/products/search - Searching products page with name: {} (size: {})", name, size);
+        try {
+            return ResponseEntity.ok(productService.searchProductsByNamePage(name, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/price-range")
     public List<Product> getProductsByPriceRange(@RequestParam BigDecimal minPrice,
-                                                 @RequestParam BigDecimal maxPrice) {
+                                                 @RequestParam BigDecimal maxPrice,
+                                                 WebRequest request) {
         log.info("GET /api/products/price-range - Getting products in price range: {} - {}", minPrice, maxPrice);
+        if (catalogNotModified(request)) {
+            return null;
+        }
         return productService.getProductsByPriceRange(minPrice, maxPrice);
     }
 
+    @GetMapping(value = "/price-range", params = "size")
+    public ResponseEntity<CursorPage<Product>> getProductsByPriceRangePage(@RequestParam BigDecimal minPrice,
+                                                                           @RequestParam BigDecimal maxPrice,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam int size) {
+        log.info("GET /api/products/price-range - Getting products page in price range: {} - {} (size: {})",
+                minPrice, maxPrice, size);
+        try {
+            return ResponseEntity.ok(productService.getProductsByPriceRangePage(minPrice, maxPrice, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/low-stock")
-    public List<Product> getLowStockProducts() {
+    public List<Product> getLowStockProducts(WebRequest request) {
         log.info("GET /api/products/low-stock - Getting low stock products");
+        if (catalogNotModified(request)) {
+            return null;
+        }
         return productService.getLowStockProducts();
     }
 
+    @GetMapping(value = "/low-stock", params = "size")
+    public ResponseEntity<CursorPage<Product>> getLowStockProductsPage(@RequestParam(required = false) String cursor,
+                                                                       @RequestParam int size) {
+        log.info("GET /api/products/low-stock - Getting low stock products page (size: {})", size);
+        try {
+            return ResponseEntity.ok(productService.getLowStockProductsPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/out-of-stock")
-    public List<Product> getOutOfStockProducts() {
+    public List<Product> getOutOfStockProducts(WebRequest request) {
         log.info("GET /api/products/out-of-stock - Getting out of stock products");
+        if (catalogNotModified(request)) {
+            return null;
+        }
         return productService.getOutOfStockProducts();
     }
 
+    @GetMapping("/summaries")
+    public List<ProductSummary> getActiveProductSummaries(WebRequest request) {
+        log.info("GET /api/products/summaries - Getting active product summaries");
+        if (catalogNotModified(request)) {
+            return null;
+        }
+        return productService.getActiveProductSummaries();
+    }
+
+    @GetMapping("/summaries/price-range")
+    public List<ProductSummary> getProductSummariesByPriceRange(@RequestParam BigDecimal minPrice,
+                                                                @RequestParam BigDecimal maxPrice,
+                                                                WebRequest request) {
+        log.info("GET /api/products/summaries/price-range - Getting product summaries in price range: {} - {}",
+                minPrice, maxPrice);
+        if (catalogNotModified(request)) {
+            return null;
+        }
+        return productService.getProductSummariesByPriceRange(minPrice, maxPrice);
+    }
+
+    @GetMapping("/summaries/low-stock")
+    public List<ProductSummary> getLowStockProductSummaries(WebRequest request) {
+        log.info("GET /api/products/summaries/low-stock - Getting low stock product summaries");
+        if (catalogNotModified(request)) {
+            return null;
+        }
+        return productService.getLowStockProductSummaries();
+    }
+
+    // fields= 로 응답 필드와 SELECT 컬럼을 함께 제한 (키셋 페이지 요청에는 적용하지 않음)
+    @GetMapping(params = {"fields", "!size", "!ids"})
+    public ResponseEntity<List<ProductFieldRow>> getActiveProductFields(@RequestParam String fields) {
+        log.info("GET /api/products - Getting active products with fields: {}", fields);
+        try {
+            return ResponseEntity.ok(ProductFieldRow.of(productService.getActiveProductFields(ProductFields.parse(fields))));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ProductFieldRow> getProductFields(@PathVariable Long id,
+                                                            @RequestParam String fields) {
+        log.info("GET /api/products/{} - Getting product with fields: {}", id, fields);
+        try {
+            return productService.getProductFields(id, ProductFields.parse(fields))
+                    .map(ProductFieldRow::of)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/search", params = {"fields", "!size"})
+    public ResponseEntity<List<ProductFieldRow>> searchProductFields(@RequestParam String name,
+                                                                     @RequestParam(defaultValue = "50") int limit,
+                                                                     @RequestParam String fields) {
+        log.info("GET /api/products/search - Searching products with name: {} and fields: {}", name, fields);
+        try {
+            return ResponseEntity.ok(ProductFieldRow.of(productService.searchProductFields(name,
+                    Math.min(limit, ProductService.MAX_PAGE_SIZE), ProductFields.parse(fields))));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/price-range", params = {"fields", "!size"})
+    public ResponseEntity<List<ProductFieldRow>> getProductFieldsByPriceRange(@RequestParam BigDecimal minPrice,
+                                                                              @RequestParam BigDecimal maxPrice,
+                                                                              @RequestParam String fields) {
+        log.info("GET /api/products/price-range - Getting products in price range: {} - {} with fields: {}",
+                minPrice, maxPrice, fields);
+        try {
+            return ResponseEntity.ok(ProductFieldRow.of(productService.getProductFieldsByPriceRange(minPrice, maxPrice,
+                    ProductFields.parse(fields))));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/low-stock", params = {"fields", "!size"})
+    public ResponseEntity<List<ProductFieldRow>> getLowStockProductFields(@RequestParam String fields) {
+        log.info("GET /api/products/low-stock - Getting low stock products with fields: {}", fields);
+        try {
+            return ResponseEntity.ok(ProductFieldRow.of(productService.getLowStockProductFields(ProductFields.parse(fields))));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/out-of-stock", params = "fields")
+    public ResponseEntity<List<ProductFieldRow>> getOutOfStockProductFields(@RequestParam String fields) {
+        log.info("GET /api/products/out-of-stock - Getting out of stock products with fields: {}", fields);
+        try {
+            return ResponseEntity.ok(ProductFieldRow.of(productService.getOutOfStockProductFields(ProductFields.parse(fields))));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Product> createProduct(@RequestParam String name,
                                                  @RequestParam String description,
@@ -80,28 +322,159 @@ public class ProductController {
         try {
             Product product = productService.updateStock(id, newStock);
             return ResponseEntity.ok(product);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent modification of product {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Error updating stock for product {}: {}", id, e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<StockReservation> reserveStock(@PathVariable Long id,
+                                                         @RequestParam int qty) {
+        log.info("POST /api/products/{}/reserve - Reserving {} units", id, qty);
+        try {
+            return ResponseEntity.ok(productService.reserveStock(id, qty));
+        } catch (ProductNotFoundException e) {
+            log.error("Error reserving stock for product {}: {}", id, e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (InsufficientStockException e) {
+            log.warn("Insufficient stock for product {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid reservation request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}/deactivate")
     public ResponseEntity<Product> deactivateProduct(@PathVariable Long id) {
         log.info("PUT /api/products/{}/deactivate - Deactivating product", id);
         try {
             Product product = productService.deactivateProduct(id);
             return ResponseEntity.ok(product);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent modification of product {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Error deactivating product {}: {}", id, e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    @PutMapping("/bulk/stock")
+    public ResponseEntity<BulkUpdateResult> bulkUpdateStock(@RequestBody List<BulkStockUpdate> updates) {
+        log.info("PUT /api/products/bulk/stock - Updating stock for {} products", updates.size());
+        try {
+            return ResponseEntity.ok(productBulkService.updateStock(updates));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/bulk/price")
+    public ResponseEntity<BulkUpdateResult> bulkUpdatePrice(@RequestBody List<BulkPriceUpdate> updates) {
+        log.info("PUT /api/products/bulk/price - Updating price for {} products", updates.size());
+        try {
+            return ResponseEntity.ok(productBulkService.updatePrice(updates));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResult> bulkUpdateStatus(@RequestBody List<BulkStatusUpdate> updates) {
+        log.info("PUT /api/products/bulk/status - Updating status for {} products", updates.size());
+        try {
+            return ResponseEntity.ok(productBulkService.updateStatus(updates));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/bulk/deactivate-out-of-stock")
+    public ResponseEntity<BulkStatementResult> deactivateOutOfStockProducts() {
+        log.info("POST /api/products/bulk/deactivate-out-of-stock - Deactivating out of stock products");
+        return ResponseEntity.ok(productBulkService.deactivateOutOfStock());
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportResult> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        log.info("POST /api/products/import - Importing products ({})", contentType);
+        try {
+            return ResponseEntity.ok(productImportService.importProducts(body,
+                    ProductImportService.Format.fromContentType(contentType)));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid import request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        log.info("GET /api/products/export - Exporting product catalog as NDJSON");
+        StreamingResponseBody body = out -> {
+            long exported = productExportService.exportProducts(out);
+            log.info("Exported {} products", exported);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/stats/count")
     public ResponseEntity<Long> getActiveProductCount() {
         log.info("GET /api/products/stats/count - Getting active product count");
         long count = productService.getActiveProductCount();
         return ResponseEntity.ok(count);
     }
+
+    @GetMapping("/stats/counts")
+    public ResponseEntity<EntityCounts> getProductCounts() {
+        log.info("GET /api/products/stats/counts - Getting product counts by status");
+        return ResponseEntity.ok(productService.getProductCounts());
+    }
+
+    @GetMapping("/stats/single-flight")
+    public ResponseEntity<List<SingleFlightStats>> getSingleFlightStatistics() {
+        log.info("GET /api/products/stats/single-flight - Getting request coalescing statistics");
+        return ResponseEntity.ok(productService.getSingleFlightStatistics());
+    }
+
+    @GetMapping("/stats/cache")
+    public ResponseEntity<CacheStatistics> getProductCacheStatistics() {
+        log.info("GET /api/products/stats/cache - Getting product cache statistics");
+        return ResponseEntity.ok(productService.getProductCacheStatistics());
+    }
+
+    @GetMapping("/stats/query-cache")
+    public ResponseEntity<List<QueryCacheStats>> getQueryCacheStatistics() {
+        log.info("GET /api/products/stats/query-cache - Getting query result cache statistics");
+        return ResponseEntity.ok(productService.getQueryCacheStatistics());
+    }
+
+    // 변경 피드: 마지막으로 처리한 sequence 를 after 로 넘기면 그 다음부터 이어 읽는다
+    @GetMapping("/changes")
+    public ResponseEntity<ProductChangePage> getProductChanges(@RequestParam(defaultValue = "0") long after,
+                                                               @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /api/products/changes - Reading product changes after {} (limit: {})", after, limit);
+        try {
+            return ResponseEntity.ok(productService.getProductChanges(after, limit));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid change feed request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 목록 응답은 카탈로그 전체 버전을 ETag 로 사용 (변경이 없으면 304 응답 후 조회 생략)
+    private boolean catalogNotModified(WebRequest request) {
+        ResourceVersion version = productService.getCatalogVersion();
+        return request.checkNotModified(version.etag(), version.lastModified());
+    }
 }
\ No newline at end of file
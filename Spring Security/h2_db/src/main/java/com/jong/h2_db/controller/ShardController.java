@@ -0,0 +1,39 @@
+package com.jong.h2_db.controller;
+
+import com.jong.h2_db.dto.ShardRebalanceResult;
+import com.jong.h2_db.dto.ShardStats;
+import com.jong.h2_db.shard.CustomerRebalancer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "enabled", havingValue = "true")
+public class ShardController {
+
+    private final CustomerRebalancer customerRebalancer;
+
+    @GetMapping
+    public ResponseEntity<List<ShardStats>> getShardStats() {
+        log.info("GET /api/shards - Getting customer shard statistics");
+        return ResponseEntity.ok(customerRebalancer.getShardStats());
+    }
+
+    @PostMapping
+    public ResponseEntity<ShardRebalanceResult> addShard() {
+        log.info("POST /api/shards - Adding a customer shard and rebalancing");
+        try {
+            return ResponseEntity.ok(customerRebalancer.addShard());
+        } catch (IllegalStateException e) {
+            log.error("Failed to add customer shard: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.jong.h2_db.counter;
+
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.model.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 생성/삭제를 카운터에 반영하는 JPA 엔티티 리스너
+ * 상태 전이(활성/비활성 등)는 이전 상태를 아는 서비스 쓰기 메서드가 직접 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCounterListener {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String INACTIVE = "INACTIVE";
+
+    private final EntityCounterRegistry registry;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        record(entity, 1);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        record(entity, -1);
+    }
+
+    private void record(Object entity, long delta) {
+        if (entity instanceof Product product) {
+            registry.recordAfterCommit(Product.class, product.getStatus().name(), delta);
+        } else if (entity instanceof Customer customer) {
+            registry.recordAfterCommit(Customer.class, customerStatus(customer.getIsActive()), delta);
+        }
+    }
+
+    public static String customerStatus(Boolean active) {
+        return Boolean.TRUE.equals(active) ? ACTIVE : INACTIVE;
+    }
+}
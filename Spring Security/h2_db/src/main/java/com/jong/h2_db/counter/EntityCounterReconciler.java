@@ -0,0 +1,75 @@
+package com.jong.h2_db.counter;
+
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.model.ProductStatus;
+import com.jong.h2_db.repository.ProductRepository;
+import com.jong.h2_db.shard.CustomerShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카운터를 DB 집계 결과와 맞춘다 (기동 시, 주기적으로, 대상 행을 알 수 없는 일괄 변경 후)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCounterReconciler {
+
+    private final EntityCounterRegistry registry;
+    private final ProductRepository productRepository;
+    private final CustomerShards customerShards;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval:PT5M}",
+            initialDelayString = "${app.counters.reconcile-interval:PT5M}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isBulk()) {
+            reconcileProducts();
+        }
+    }
+
+    public void reconcile() {
+        reconcileProducts();
+        reconcileCustomers();
+    }
+
+    private void reconcileProducts() {
+        Map<String, Long> actual = new HashMap<>();
+        for (Object[] row : productRepository.countGroupedByStatus()) {
+            actual.put(((ProductStatus) row[0]).name(), (Long) row[1]);
+        }
+        log.debug("Reconciling product counters: {}", actual);
+        registry.reconcile(Product.class, actual);
+    }
+
+    private void reconcileCustomers() {
+        Map<String, Long> actual = new HashMap<>();
+        List<Object[]> rows = customerShards.countGroupedByActive();
+        for (Object[] row : rows) {
+            actual.merge(EntityCounterListener.customerStatus((Boolean) row[0]), (Long) row[1], Long::sum);
+        }
+        log.debug("Reconciling customer counters: {}", actual);
+        registry.reconcile(Customer.class, actual);
+    }
+}
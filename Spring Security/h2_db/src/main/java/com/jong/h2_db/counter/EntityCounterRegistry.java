@@ -0,0 +1,117 @@
+package com.jong.h2_db.counter;
+
+import com.jong.h2_db.dto.EntityCounts;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔티티/상태별 건수를 메모리에 유지하는 카운터
+ * 변경분(delta)은 트랜잭션마다 모아 두었다가 커밋된 경우에만 반영하고, 롤백되면 버린다.
+ * 조건 기반 일괄 UPDATE 처럼 변경분을 알 수 없는 경우는 {@link EntityCounterReconciler} 가 DB 와 맞춘다.
+ */
+@Component
+public class EntityCounterRegistry {
+
+    private static final Object PENDING_DELTAS_KEY = new Object();
+
+    private final ConcurrentHashMap<Key, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Set<String> reconciled = ConcurrentHashMap.newKeySet();
+
+    public void recordAfterCommit(Class<?> entity, String status, long delta) {
+        Key key = new Key(entity.getSimpleName(), status);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, delta);
+            return;
+        }
+        pendingDeltas().merge(key, delta, Long::sum);
+    }
+
+    public void recordTransitionAfterCommit(Class<?> entity, String from, String to) {
+        if (from.equals(to)) {
+            return;
+        }
+        recordAfterCommit(entity, from, -1);
+        recordAfterCommit(entity, to, 1);
+    }
+
+    public long count(Class<?> entity, String status) {
+        AtomicLong counter = counters.get(new Key(entity.getSimpleName(), status));
+        return counter == null ? 0 : counter.get();
+    }
+
+    public long total(Class<?> entity) {
+        return byStatus(entity).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public EntityCounts counts(Class<?> entity) {
+        Map<String, Long> byStatus = byStatus(entity);
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new EntityCounts(entity.getSimpleName(), total, byStatus, isReconciled(entity));
+    }
+
+    public boolean isReconciled(Class<?> entity) {
+        return reconciled.contains(entity.getSimpleName());
+    }
+
+    /**
+     * DB 에서 센 실제 건수로 덮어쓴다 (집계 쿼리와 덮어쓰기 사이에 커밋된 변경은 다음 보정 때 맞춰짐)
+     */
+    public void reconcile(Class<?> entity, Map<String, Long> actual) {
+        String name = entity.getSimpleName();
+        counters.forEach((key, counter) -> {
+            if (key.entity().equals(name) && !actual.containsKey(key.status())) {
+                counter.set(0);
+            }
+        });
+        actual.forEach((status, count) ->
+                counters.computeIfAbsent(new Key(name, status), k -> new AtomicLong()).set(count));
+        reconciled.add(name);
+    }
+
+    private Map<String, Long> byStatus(Class<?> entity) {
+        String name = entity.getSimpleName();
+        Map<String, Long> byStatus = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            if (key.entity().equals(name)) {
+                byStatus.put(key.status(), counter.get());
+            }
+        });
+        return byStatus;
+    }
+
+    private void apply(Key key, long delta) {
+        counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Long> pendingDeltas() {
+        Map<Key, Long> pending = (Map<Key, Long>) TransactionSynchronizationManager.getResource(PENDING_DELTAS_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Key, Long> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_DELTAS_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS_KEY);
+                if (status == STATUS_COMMITTED) {
+                    created.forEach(EntityCounterRegistry.this::apply);
+                }
+            }
+        });
+        return created;
+    }
+
+    private record Key(String entity, String status) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+public record BulkItemResult(@JsonSerialize(using = ToStringSerializer.class) Long id,
+                             boolean success, String message) {
+
+    public static BulkItemResult succeeded(Long id) {
+        return new BulkItemResult(id, true, null);
+    }
+
+    public static BulkItemResult failed(Long id, String message) {
+        return new BulkItemResult(id, false, message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.jong.h2_db.dto;
+
+import java.math.BigDecimal;
+
+public record BulkPriceUpdate(Long id, BigDecimal price) {
+}
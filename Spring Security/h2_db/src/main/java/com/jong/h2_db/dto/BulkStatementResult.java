@@ -0,0 +1,7 @@
+package com.jong.h2_db.dto;
+
+/**
+ * 조건 기반 일괄 UPDATE 결과 (영향받은 행 수)
+ */
+public record BulkStatementResult(String operation, int affected) {
+}
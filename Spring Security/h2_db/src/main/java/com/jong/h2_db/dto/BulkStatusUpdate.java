@@ -0,0 +1,6 @@
+package com.jong.h2_db.dto;
+
+import com.jong.h2_db.model.ProductStatus;
+
+public record BulkStatusUpdate(Long id, ProductStatus status) {
+}
@@ -0,0 +1,14 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+/**
+ * 대량 변경 결과 요약 (항목별 성공/실패 포함)
+ */
+public record BulkUpdateResult(int requested, int succeeded, int failed, List<BulkItemResult> items) {
+
+    public static BulkUpdateResult of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResult::success).count();
+        return new BulkUpdateResult(items.size(), succeeded, items.size() - succeeded, items);
+    }
+}
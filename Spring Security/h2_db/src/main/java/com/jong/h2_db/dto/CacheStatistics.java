@@ -0,0 +1,4 @@
+package com.jong.h2_db.dto;
+
+public record CacheStatistics(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+}
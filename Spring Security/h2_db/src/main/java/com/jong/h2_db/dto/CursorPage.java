@@ -0,0 +1,21 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 기반 페이지 응답
+ * nextCursor 는 다음 페이지 요청 시 그대로 전달하는 불투명 토큰이다.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, boolean hasNext) {
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 페이지가 존재한다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, ProductCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, content.size(), nextCursor, hasNext);
+    }
+}
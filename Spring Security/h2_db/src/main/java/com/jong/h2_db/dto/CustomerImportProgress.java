@@ -0,0 +1,12 @@
+package com.jong.h2_db.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객 가져오기 작업 진행 상황 (실행 중에도 조회 가능)
+ */
+public record CustomerImportProgress(String jobId, String status, long processedRows, long importedRows,
+                                     long rejectedRows, long duplicateRows, LocalDateTime startedAt,
+                                     LocalDateTime finishedAt, long elapsedMillis, double rowsPerSecond,
+                                     String message) {
+}
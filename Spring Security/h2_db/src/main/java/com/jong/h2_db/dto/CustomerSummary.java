@@ -0,0 +1,11 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 고객 목록 조회용 읽기 모델 (JPQL 생성자 표현식으로 바로 생성)
+ */
+public record CustomerSummary(@JsonSerialize(using = ToStringSerializer.class) Long id,
+                              String name, String email, Boolean active) {
+}
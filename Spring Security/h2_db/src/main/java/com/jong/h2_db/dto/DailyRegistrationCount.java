@@ -0,0 +1,6 @@
+package com.jong.h2_db.dto;
+
+import java.time.LocalDate;
+
+public record DailyRegistrationCount(LocalDate date, long registrations) {
+}
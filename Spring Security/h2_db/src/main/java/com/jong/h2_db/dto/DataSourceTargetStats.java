@@ -0,0 +1,15 @@
+package com.jong.h2_db.dto;
+
+/**
+ * 라우팅 대상별 상태 (lagMillis 가 null 이면 아직 동기화되지 않은 복제본, routedConnections = 이 대상으로 보낸 커넥션 수)
+ */
+public record DataSourceTargetStats(String name,
+                                    String role,
+                                    boolean available,
+                                    Long lagMillis,
+                                    long routedConnections,
+                                    int activeConnections,
+                                    int idleConnections,
+                                    int totalConnections,
+                                    int threadsAwaitingConnection) {
+}
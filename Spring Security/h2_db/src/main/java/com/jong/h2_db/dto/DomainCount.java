@@ -0,0 +1,7 @@
+package com.jong.h2_db.dto;
+
+/**
+ * 이메일 도메인별 고객 수 (sketch 모드에서는 count 가 추정치이고 실제 값은 count - error 이상)
+ */
+public record DomainCount(String domain, long count, long error) {
+}
@@ -0,0 +1,6 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+public record EmailDomainStats(String mode, long customers, long distinctDomains, List<DomainCount> topDomains) {
+}
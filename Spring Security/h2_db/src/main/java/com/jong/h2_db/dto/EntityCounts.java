@@ -0,0 +1,9 @@
+package com.jong.h2_db.dto;
+
+import java.util.Map;
+
+/**
+ * 카운터 기준 엔티티 건수 (reconciled 가 false 면 아직 DB 와 한 번도 맞추지 않은 값)
+ */
+public record EntityCounts(String entity, long total, Map<String, Long> byStatus, boolean reconciled) {
+}
@@ -0,0 +1,7 @@
+package com.jong.h2_db.dto;
+
+/**
+ * 가져오기 중 거부된 행 (1부터 시작하는 파일 줄 번호)
+ */
+public record ImportRowError(long line, String message) {
+}
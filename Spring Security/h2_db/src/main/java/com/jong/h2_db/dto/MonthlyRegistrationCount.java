@@ -0,0 +1,4 @@
+package com.jong.h2_db.dto;
+
+public record MonthlyRegistrationCount(int year, int month, long registrations) {
+}
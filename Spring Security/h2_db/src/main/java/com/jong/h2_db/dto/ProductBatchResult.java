@@ -0,0 +1,14 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jong.h2_db.model.Product;
+
+import java.util.List;
+
+/**
+ * 다건 조회 결과 (요청 순서 유지, 존재하지 않는 ID 는 missingIds 로 별도 보고)
+ */
+public record ProductBatchResult(List<Product> products,
+                                 @JsonSerialize(contentUsing = ToStringSerializer.class) List<Long> missingIds) {
+}
@@ -0,0 +1,15 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jong.h2_db.event.ProductChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 항목 (sequence 는 1 부터 빈틈없이 증가, productId 가 null 이면 bulk 변경)
+ */
+public record ProductChange(Long sequence,
+                            @JsonSerialize(using = ToStringSerializer.class) Long productId,
+                            ProductChangeType type, LocalDateTime occurredAt) {
+}
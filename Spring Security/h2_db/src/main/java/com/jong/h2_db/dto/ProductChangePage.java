@@ -0,0 +1,9 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+/**
+ * 변경 피드 조회 결과 (다음 조회는 after=nextOffset, headOffset = 현재까지 게시된 마지막 sequence)
+ */
+public record ProductChangePage(List<ProductChange> changes, long nextOffset, long headOffset) {
+}
@@ -0,0 +1,53 @@
+package com.jong.h2_db.dto;
+
+import com.jong.h2_db.model.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋 페이지네이션 커서
+ * (id) 또는 (price, id) 를 키로 사용하며 Base64 URL 토큰으로 인코딩된다.
+ */
+public record ProductCursor(BigDecimal price, long id) {
+
+    public static final ProductCursor START = new ProductCursor(null, 0L);
+
+    private static final String SEPARATOR = ":";
+
+    public static ProductCursor afterId(Product product) {
+        return new ProductCursor(null, product.getId());
+    }
+
+    public static ProductCursor afterPriceAndId(Product product) {
+        return new ProductCursor(product.getPrice(), product.getId());
+    }
+
+    public boolean hasPrice() {
+        return price != null;
+    }
+
+    public String encode() {
+        String raw = hasPrice() ? price.toPlainString() + SEPARATOR + id : Long.toString(id);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new ProductCursor(null, Long.parseLong(raw));
+            }
+            return new ProductCursor(new BigDecimal(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * fields= 조회 결과 한 행의 응답 모델
+ * 행 값은 엔티티 타입 그대로 두고, id 만 직렬화할 때 문자열로 내보낸다 (Product.id 와 같은 규칙).
+ */
+@JsonSerialize(using = ProductFieldRow.Serializer.class)
+public record ProductFieldRow(Map<String, Object> values) {
+
+    public static ProductFieldRow of(Map<String, Object> row) {
+        return new ProductFieldRow(row);
+    }
+
+    public static List<ProductFieldRow> of(List<Map<String, Object>> rows) {
+        return rows.stream().map(ProductFieldRow::new).toList();
+    }
+
+    static class Serializer extends JsonSerializer<ProductFieldRow> {
+
+        @Override
+        public void serialize(ProductFieldRow row, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            for (Map.Entry<String, Object> entry : row.values().entrySet()) {
+                Object value = entry.getValue();
+                if ("id".equals(entry.getKey()) && value != null) {
+                    gen.writeFieldName(entry.getKey());
+                    ToStringSerializer.instance.serialize(value, gen, provider);
+                } else {
+                    provider.defaultSerializeField(entry.getKey(), value, gen);
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
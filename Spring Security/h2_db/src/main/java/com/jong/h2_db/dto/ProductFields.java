@@ -0,0 +1,51 @@
+package com.jong.h2_db.dto;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * fields= 요청 파라미터로 지정한 상품 필드 목록
+ * 엔티티 속성명만 허용하며, 지정한 순서대로 SELECT 절과 응답에 사용된다.
+ */
+public record ProductFields(List<String> names) {
+
+    public static final Set<String> ALLOWED = Set.of(
+            "id", "name", "description", "price", "stockQuantity", "status", "createdAt", "updatedAt");
+
+    public static ProductFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields 파라미터가 비어 있습니다");
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : Arrays.stream(fields.split(",")).map(String::trim).toList()) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!ALLOWED.contains(field)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + field);
+            }
+            names.add(field);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("fields 파라미터가 비어 있습니다");
+        }
+        return new ProductFields(List.copyOf(names));
+    }
+
+    public boolean contains(String field) {
+        return names.contains(field);
+    }
+
+    // 순서 재배열 등에 id 가 필요할 때 사용
+    public ProductFields withId() {
+        if (contains("id")) {
+            return this;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        names.addAll(this.names);
+        return new ProductFields(List.copyOf(names));
+    }
+}
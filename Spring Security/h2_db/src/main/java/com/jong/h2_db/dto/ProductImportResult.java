@@ -0,0 +1,11 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+/**
+ * 상품 가져오기 결과 요약
+ * errors 는 앞쪽 일부만 담고, 전체 거부 건수는 rejected 로 센다.
+ */
+public record ProductImportResult(String format, long totalRows, long imported, long rejected, int chunks,
+                                  long elapsedMillis, double rowsPerSecond, List<ImportRowError> errors) {
+}
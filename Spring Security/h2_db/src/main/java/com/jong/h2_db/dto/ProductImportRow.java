@@ -0,0 +1,9 @@
+package com.jong.h2_db.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 가져오기 파일의 상품 한 행 (NDJSON 한 줄 또는 CSV 한 줄)
+ */
+public record ProductImportRow(String name, String description, BigDecimal price, Integer stockQuantity) {
+}
@@ -0,0 +1,14 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jong.h2_db.model.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (JPQL 생성자 표현식으로 바로 생성)
+ */
+public record ProductSummary(@JsonSerialize(using = ToStringSerializer.class) Long id,
+                             String name, BigDecimal price, Integer stockQuantity, ProductStatus status) {
+}
@@ -0,0 +1,14 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+/**
+ * 조회 결과 캐시의 쿼리별 통계 (invalidated = 태그 무효화로 버려진 항목 수)
+ */
+public record QueryCacheStats(String query,
+                              List<String> tags,
+                              long hits,
+                              long misses,
+                              double hitRatio,
+                              long invalidated) {
+}
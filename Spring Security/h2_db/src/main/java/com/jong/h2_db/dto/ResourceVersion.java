@@ -0,0 +1,22 @@
+package com.jong.h2_db.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 GET 처리에 사용하는 리소스 버전 (강한 ETag + Last-Modified 밀리초)
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    public static ResourceVersion ofProduct(Long id, LocalDateTime updatedAt) {
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        return new ResourceVersion("\"product-" + id + "-" + micros + "\"", instant.toEpochMilli());
+    }
+
+    public static ResourceVersion ofCatalog(long epoch, long version, Instant lastModified) {
+        return new ResourceVersion("\"products-" + epoch + "-" + version + "\"", lastModified.toEpochMilli());
+    }
+}
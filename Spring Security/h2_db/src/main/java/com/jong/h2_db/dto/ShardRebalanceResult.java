@@ -0,0 +1,12 @@
+package com.jong.h2_db.dto;
+
+import java.util.List;
+
+/**
+ * 샤드 추가 결과 (movedCustomers = 새 샤드로 옮긴 고객 수, shards = 재분배 후 샤드별 상태)
+ */
+public record ShardRebalanceResult(int addedShard,
+                                   long movedCustomers,
+                                   long elapsedMillis,
+                                   List<ShardStats> shards) {
+}
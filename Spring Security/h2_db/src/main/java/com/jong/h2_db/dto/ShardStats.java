@@ -0,0 +1,11 @@
+package com.jong.h2_db.dto;
+
+/**
+ * 고객 샤드별 상태 (customers = 샤드에 저장된 고객 수)
+ */
+public record ShardStats(int shard,
+                         long customers,
+                         int activeConnections,
+                         int idleConnections,
+                         int totalConnections) {
+}
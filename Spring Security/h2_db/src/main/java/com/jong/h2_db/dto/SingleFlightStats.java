@@ -0,0 +1,14 @@
+package com.jong.h2_db.dto;
+
+import java.util.Map;
+
+/**
+ * 요청 병합 통계 (coalescingRatio = 병합된 요청 / 전체 요청, waitersByKey = 현재 대기 중인 호출 수)
+ */
+public record SingleFlightStats(String name,
+                                long requests,
+                                long executions,
+                                long coalesced,
+                                double coalescingRatio,
+                                Map<String, Integer> waitersByKey) {
+}
@@ -0,0 +1,8 @@
+package com.jong.h2_db.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+public record StockReservation(@JsonSerialize(using = ToStringSerializer.class) Long productId,
+                               int quantity) {
+}
@@ -0,0 +1,7 @@
+package com.jong.h2_db.event;
+
+public enum CustomerChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED
+}
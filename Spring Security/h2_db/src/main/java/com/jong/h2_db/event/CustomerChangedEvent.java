@@ -0,0 +1,12 @@
+package com.jong.h2_db.event;
+
+/**
+ * 고객 변경 이벤트
+ * CustomerService 쓰기 메서드가 트랜잭션 안에서 발행하며, 통계 등 파생 데이터가 이를 구독한다.
+ */
+public record CustomerChangedEvent(Long customerId, CustomerChangeType type) {
+
+    public static CustomerChangedEvent of(Long customerId, CustomerChangeType type) {
+        return new CustomerChangedEvent(customerId, type);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jong.h2_db.event;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    PRICE_CHANGED,
+    STOCK_CHANGED,
+    STATUS_CHANGED,
+    DELETED
+}
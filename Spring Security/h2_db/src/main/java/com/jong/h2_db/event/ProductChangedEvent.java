@@ -0,0 +1,21 @@
+package com.jong.h2_db.event;
+
+/**
+ * 상품 변경 이벤트
+ * ProductService 쓰기 메서드가 트랜잭션 안에서 발행하며, 캐시 등 파생 데이터가 이를 구독한다.
+ * 조건 기반 일괄 UPDATE 처럼 대상 상품을 특정할 수 없으면 productId 가 null 인 bulk 이벤트를 발행한다.
+ */
+public record ProductChangedEvent(Long productId, ProductChangeType type) {
+
+    public static ProductChangedEvent of(Long productId, ProductChangeType type) {
+        return new ProductChangedEvent(productId, type);
+    }
+
+    public static ProductChangedEvent bulk(ProductChangeType type) {
+        return new ProductChangedEvent(null, type);
+    }
+
+    public boolean isBulk() {
+        return productId == null;
+    }
+}
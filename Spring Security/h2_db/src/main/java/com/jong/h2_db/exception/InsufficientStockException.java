@@ -0,0 +1,7 @@
+package com.jong.h2_db.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(Long id, int requested) {
+        super("재고가 부족합니다: 상품 " + id + ", 요청 수량 " + requested);
+    }
+}
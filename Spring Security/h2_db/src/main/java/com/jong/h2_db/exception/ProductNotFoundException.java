@@ -0,0 +1,7 @@
+package com.jong.h2_db.exception;
+
+public class ProductNotFoundException extends RuntimeException {
+    public ProductNotFoundException(Long id) {
+        super("상품을 찾을 수 없습니다: " + id);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jong.h2_db.id;
+
+/**
+ * 저장 시점에 사용할 TSID 생성기를 고른다
+ * 기본은 프로세스 공용 생성기이며, 노드 비트에 다른 정보를 담아야 하는 쪽이 {@link TsidIdentifierGenerator#useStrategy} 로 바꿔 끼운다.
+ */
+@FunctionalInterface
+public interface TsidGeneratorStrategy {
+
+    TsidGeneratorStrategy DEFAULT = TsidGenerator::getDefault;
+
+    TsidGenerator current();
+}
@@ -0,0 +1,26 @@
+package com.jong.h2_db.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TsidId} 가 붙은 식별자에 DB 왕복 없이 TSID 를 채운다
+ * Hibernate 가 직접 만드는 객체라 빈을 주입받을 수 없으므로, 생성기 선택 전략은 정적으로 등록한다.
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile TsidGeneratorStrategy strategy = TsidGeneratorStrategy.DEFAULT;
+
+    public static void useStrategy(TsidGeneratorStrategy strategy) {
+        TsidIdentifierGenerator.strategy = strategy;
+    }
+
+    public static void resetStrategy() {
+        strategy = TsidGeneratorStrategy.DEFAULT;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return strategy.current().next();
+    }
+}
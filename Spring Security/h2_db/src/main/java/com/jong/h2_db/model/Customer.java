@@ -1,5 +1,10 @@
 package com.jong.h2_db.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jong.h2_db.counter.EntityCounterListener;
+import com.jong.h2_db.id.TsidId;
+import com.jong.h2_db.segment.AgeBracket;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -7,7 +12,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "customers")
+@EntityListeners(EntityCounterListener.class)
+@Table(name = "customers", indexes = {
+        @Index(name = "idx_customers_date_of_birth", columnList = "date_of_birth")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,8 +24,11 @@ import java.time.LocalDateTime;
 @ToString(exclude = {"createdAt", "updatedAt"})
 public class Customer {
 
+    // 시간 순 TSID 를 애플리케이션에서 발급 (DB 왕복 없이 배치 INSERT 가능)
+    // JSON 에서는 문자열로 내보낸다 (Product.id 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -78,11 +89,12 @@ public class Customer {
     }
 
     // 비즈니스 메서드
+    // 만 나이 (나이 구간 조회와 같은 기준)
     public int getAge() {
         if (dateOfBirth == null) {
             return 0;
         }
-        return LocalDate.now().getYear() - dateOfBirth.getYear();
+        return AgeBracket.ageOn(dateOfBirth, LocalDate.now());
     }
 
     public void deactivate() {
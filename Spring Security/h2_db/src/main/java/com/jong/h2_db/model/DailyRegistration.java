@@ -0,0 +1,24 @@
+package com.jong.h2_db.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 고객 가입 수 롤업 (고객 생성 트랜잭션 안에서 증가)
+ */
+@Entity
+@Table(name = "customer_registration_daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class DailyRegistration {
+
+    @Id
+    @Column(name = "registration_date")
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private long registrations;
+}
@@ -0,0 +1,38 @@
+package com.jong.h2_db.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * (연, 월) 별 고객 가입 수 롤업 (고객 생성 트랜잭션 안에서 증가)
+ */
+@Entity
+@Table(name = "customer_registration_monthly")
+@IdClass(MonthlyRegistration.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class MonthlyRegistration {
+
+    @Id
+    @Column(name = "registration_year")
+    private int year;
+
+    @Id
+    @Column(name = "registration_month")
+    private int month;
+
+    @Column(nullable = false)
+    private long registrations;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private int year;
+        private int month;
+    }
+}
@@ -1,5 +1,9 @@
 package com.jong.h2_db.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jong.h2_db.counter.EntityCounterListener;
+import com.jong.h2_db.id.TsidId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -7,7 +11,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@EntityListeners(EntityCounterListener.class)
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_id", columnList = "status, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,8 +24,11 @@ import java.time.LocalDateTime;
 @ToString(exclude = {"createdAt", "updatedAt", "description"})
 public class Product {
 
+    // 시간 순 TSID 를 애플리케이션에서 발급 (DB 왕복 없이 배치 INSERT 가능)
+    // 2^53 을 넘으므로 JSON 에서는 문자열로 내보낸다 (JavaScript 숫자로는 정밀도 손실)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -50,6 +61,10 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 일반 수정 경로의 낙관적 락 (재고 예약은 조건부 UPDATE 로 직접 증가)
+    @Version
+    private Long version;
+
     // 편의 생성자
     public Product(String name, String description, BigDecimal price, Integer stockQuantity) {
         this.name = name;
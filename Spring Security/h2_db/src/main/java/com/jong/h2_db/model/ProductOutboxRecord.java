@@ -0,0 +1,58 @@
+package com.jong.h2_db.model;
+
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.id.TsidId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 아웃박스 행 (상품 쓰기와 같은 트랜잭션에서 INSERT)
+ * 릴레이가 변경 피드에 게시하면서 feedSequence 와 publishedAt 을 채운다. feedSequence 가 null 이면 미게시.
+ */
+@Entity
+@Table(name = "product_outbox", indexes = {
+        @Index(name = "idx_product_outbox_feed_sequence", columnList = "feed_sequence", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class ProductOutboxRecord {
+
+    // 시간 순 TSID (미게시 행을 기록 순서대로 읽기 위한 정렬 키)
+    @Id
+    @TsidId
+    private Long id;
+
+    // bulk 변경이면 null
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ProductChangeType changeType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "feed_sequence")
+    private Long feedSequence;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public static ProductOutboxRecord of(ProductChangedEvent event) {
+        ProductOutboxRecord record = new ProductOutboxRecord();
+        record.productId = event.productId();
+        record.changeType = event.type();
+        record.occurredAt = LocalDateTime.now();
+        return record;
+    }
+
+    public void markPublished(long feedSequence, LocalDateTime publishedAt) {
+        this.feedSequence = feedSequence;
+        this.publishedAt = publishedAt;
+    }
+}
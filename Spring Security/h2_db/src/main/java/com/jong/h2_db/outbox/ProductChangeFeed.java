@@ -0,0 +1,176 @@
+package com.jong.h2_db.outbox;
+
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.repository.ProductOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 상품 변경 피드
+ * <ul>
+ *     <li>릴레이가 게시한 변경에는 1 부터 빈틈없는 sequence 가 붙고, 구독자는 임의의 offset(마지막으로 처리한 sequence) 부터 이어 읽는다.</li>
+ *     <li>최근 변경은 메모리 링 버퍼에서, 그보다 오래된 변경은 아웃박스 테이블에서 읽으므로 재시작 후에도 이어 읽을 수 있다.</li>
+ *     <li>구독자의 offset 은 핸들러가 예외 없이 끝난 뒤에만 전진한다 (실패하면 다음 게시 때 같은 변경부터 다시 전달 - at-least-once).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ProductChangeFeed {
+
+    public static final int DELIVERY_BATCH_SIZE = 500;
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductChange[] buffer;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long head;
+    // 버퍼에 실제로 들어 있는 가장 오래된 sequence (재시작 직후에는 정리된 구간만큼 비어 있을 수 있음)
+    private long oldestBuffered = 1;
+    private volatile boolean ready;
+
+    public ProductChangeFeed(ProductOutboxRepository outboxRepository,
+                             @Value("${app.outbox.feed-buffer-size:10000}") int bufferSize) {
+        this.outboxRepository = outboxRepository;
+        this.buffer = new ProductChange[bufferSize];
+    }
+
+    // 이미 게시된 최근 변경을 버퍼에 다시 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long last = outboxRepository.findLastSequence();
+        List<ProductChange> recent = outboxRepository.findPublishedAfter(Math.max(0, last - buffer.length),
+                PageRequest.ofSize(buffer.length));
+        lock.writeLock().lock();
+        try {
+            recent.forEach(change -> buffer[slot(change.sequence())] = change);
+            oldestBuffered = recent.isEmpty() ? last + 1 : recent.get(0).sequence();
+            head = last;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product change feed initialized at sequence {} ({} buffered)", last, recent.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long head() {
+        return head;
+    }
+
+    /**
+     * 릴레이가 커밋한 변경을 sequence 순서대로 추가
+     */
+    void append(List<ProductChange> changes) {
+        lock.writeLock().lock();
+        try {
+            for (ProductChange change : changes) {
+                if (change.sequence() != head + 1) {
+                    throw new IllegalStateException("변경 피드 sequence 가 연속되지 않습니다: " + head + " -> " + change.sequence());
+                }
+                buffer[slot(change.sequence())] = change;
+                head = change.sequence();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * after 다음 sequence 부터 최대 limit 개 (버퍼 밖이면 아웃박스 테이블에서 조회)
+     */
+    public List<ProductChange> read(long after, int limit) {
+        if (after >= head || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // append 가 버퍼를 덮어쓰지 못하도록 잠금 안에서 head 를 다시 읽어 구간을 판단
+            long last = head;
+            if (after + 1 >= Math.max(oldestBuffered, last - buffer.length + 1)) {
+                long to = Math.min(last, after + limit);
+                List<ProductChange> changes = new ArrayList<>((int) (to - after));
+                for (long sequence = after + 1; sequence <= to; sequence++) {
+                    changes.add(buffer[slot(sequence)]);
+                }
+                return changes;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 정리 작업으로 이미 지워진 구간이면 남아 있는 가장 오래된 변경부터 반환
+        return outboxRepository.findPublishedAfter(after, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * after 이후의 변경을 handler 로 전달 (릴레이 스레드에서 호출됨)
+     */
+    public Subscription subscribe(String name, long after, Consumer<List<ProductChange>> handler) {
+        Subscription subscription = new Subscription(name, after, handler);
+        subscriptions.add(subscription);
+        log.info("Product change feed subscriber '{}' registered from offset {}", name, after);
+        return subscription;
+    }
+
+    /**
+     * 각 구독자에게 밀린 변경을 전달 (실패한 구독자는 offset 을 유지한 채 다음 호출에서 재시도)
+     */
+    void deliver() {
+        for (Subscription subscription : subscriptions) {
+            List<ProductChange> changes;
+            while (!(changes = read(subscription.offset, DELIVERY_BATCH_SIZE)).isEmpty()) {
+                try {
+                    subscription.handler.accept(changes);
+                } catch (RuntimeException e) {
+                    log.warn("Product change feed subscriber '{}' failed at offset {}: {}",
+                            subscription.name, subscription.offset, e.getMessage());
+                    break;
+                }
+                subscription.offset = changes.get(changes.size() - 1).sequence();
+            }
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    public class Subscription implements AutoCloseable {
+        private final String name;
+        private final Consumer<List<ProductChange>> handler;
+        private volatile long offset;
+
+        private Subscription(String name, long offset, Consumer<List<ProductChange>> handler) {
+            this.name = name;
+            this.offset = offset;
+            this.handler = handler;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // 마지막으로 처리를 마친 sequence (구독자가 저장해 두었다가 다시 구독할 때 전달)
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jong.h2_db.outbox;
+
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.ProductOutboxRecord;
+import com.jong.h2_db.repository.ProductOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 쓰기 트랜잭션 안에서 변경 이벤트를 아웃박스 행으로 남긴다.
+ * 쓰기가 롤백되면 아웃박스 행도 함께 사라지고, 커밋되면 릴레이가 반드시 한 번 이상 게시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutbox {
+
+    private final ProductOutboxRepository outboxRepository;
+
+    @EventListener
+    public void append(ProductChangedEvent event) {
+        outboxRepository.save(ProductOutboxRecord.of(event));
+    }
+}
@@ -0,0 +1,83 @@
+package com.jong.h2_db.outbox;
+
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.model.ProductOutboxRecord;
+import com.jong.h2_db.repository.ProductOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이: 미게시 행을 기록 순서대로 묶어 sequence 를 붙이고, 커밋 후 변경 피드에 추가한다.
+ * 쓰기 트랜잭션은 아웃박스 INSERT 만 하므로 구독자 수와 무관하게 쓰기 지연이 늘지 않는다.
+ * 스케줄러 스레드 하나에서만 실행되므로 sequence 발급이 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductOutboxRelay {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductChangeFeed changeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    public ProductOutboxRelay(ProductOutboxRepository outboxRepository,
+                              ProductChangeFeed changeFeed,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.outbox.batch-size:500}") int batchSize,
+                              @Value("${app.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.changeFeed = changeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval:PT0.2S}")
+    public void relay() {
+        if (!changeFeed.isReady()) {
+            return;
+        }
+        List<ProductChange> published;
+        do {
+            published = transactionTemplate.execute(status -> publishBatch());
+            if (!published.isEmpty()) {
+                changeFeed.append(published);
+                log.debug("Relayed {} product changes up to sequence {}", published.size(), changeFeed.head());
+            }
+        } while (published.size() == batchSize);
+        changeFeed.deliver();
+    }
+
+    private List<ProductChange> publishBatch() {
+        List<ProductOutboxRecord> records = outboxRepository.findUnpublished(PageRequest.ofSize(batchSize));
+        long sequence = changeFeed.head();
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductChange> changes = new ArrayList<>(records.size());
+        for (ProductOutboxRecord record : records) {
+            record.markPublished(++sequence, now);
+            changes.add(new ProductChange(sequence, record.getProductId(), record.getChangeType(), record.getOccurredAt()));
+        }
+        return changes;
+    }
+
+    // 보존 기간이 지난 게시 완료 행 정리 (그보다 오래된 offset 으로는 더 이상 이어 읽을 수 없음)
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval:PT1H}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published product outbox rows older than {}", deleted, retention);
+        }
+    }
+}
@@ -1,42 +1,102 @@
 package com.jong.h2_db.repository;
 
+import com.jong.h2_db.dto.CustomerSummary;
 import com.jong.h2_db.model.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByEmail(String email);
 
+    // 가져오기 중복 확인 (Bloom 필터가 "있을 수도 있음" 으로 답한 이메일만 청크 단위로 확인)
+    @Query("SELECT c.email FROM Customer c WHERE c.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     List<Customer> findByIsActiveTrue();
 
     List<Customer> findByIsActiveFalse();
 
+    long countByIsActiveTrue();
+
+    // 카운터 보정용
+    @Query("SELECT c.isActive, COUNT(c) FROM Customer c GROUP BY c.isActive")
+    List<Object[]> countGroupedByActive();
+
+    // 샤딩 시 가입 롤업 백필용 (샤드별 날짜 집계를 합산)
+    @Query("SELECT CAST(c.createdAt AS LocalDate), COUNT(c) FROM Customer c " +
+            "WHERE c.createdAt IS NOT NULL GROUP BY CAST(c.createdAt AS LocalDate)")
+    List<Object[]> countRegistrationsByDate();
+
     List<Customer> findByNameContainingIgnoreCase(String name);
 
     Optional<Customer> findByPhone(String phone);
 
     List<Customer> findByDateOfBirthBetween(LocalDate startDate, LocalDate endDate);
 
-    @Query("SELECT c FROM Customer c WHERE YEAR(CURRENT_DATE) - YEAR(c.dateOfBirth) >= :age")
-    List<Customer> findCustomersOlderThan(@Param("age") int age);
+    // 나이 조건은 생년월일 범위로 변환해서 조회 (idx_customers_date_of_birth 사용)
+    @Query("SELECT c FROM Customer c WHERE c.dateOfBirth <= :bornOnOrBefore")
+    List<Customer> findBornOnOrBefore(@Param("bornOnOrBefore") LocalDate bornOnOrBefore);
+
+    @Query("SELECT new com.jong.h2_db.dto.CustomerSummary(c.id, c.name, c.email, c.isActive) " +
+            "FROM Customer c WHERE c.isActive = true " +
+            "AND c.dateOfBirth > :bornAfter AND c.dateOfBirth <= :bornOnOrBefore ORDER BY c.id")
+    List<CustomerSummary> findActiveSummariesBornBetween(@Param("bornAfter") LocalDate bornAfter,
+                                                         @Param("bornOnOrBefore") LocalDate bornOnOrBefore);
 
     @Query("SELECT c FROM Customer c WHERE c.address IS NOT NULL AND c.address != ''")
     List<Customer> findCustomersWithAddress();
 
+    // 조회 결과 캐시용 ID 조회
+    @Query("SELECT c.id FROM Customer c WHERE c.address IS NOT NULL AND c.address != '' ORDER BY c.id")
+    List<Long> findIdsWithAddress();
+
+    @Query("SELECT c.id FROM Customer c WHERE c.dateOfBirth <= :bornOnOrBefore ORDER BY c.id")
+    List<Long> findIdsBornOnOrBefore(@Param("bornOnOrBefore") LocalDate bornOnOrBefore);
+
     @Query("SELECT SUBSTRING(c.email, LOCATE('@', c.email) + 1) as domain, COUNT(c) " +
             "FROM Customer c GROUP BY SUBSTRING(c.email, LOCATE('@', c.email) + 1)")
     List<Object[]> countCustomersByEmailDomain();
 
-    @Query(value = "SELECT MONTH(created_at) as month, COUNT(*) as count " +
-            "FROM customers GROUP BY MONTH(created_at) ORDER BY month",
-            nativeQuery = true)
-    List<Object[]> getMonthlyRegistrationStats();
+    // 이메일 도메인 스케치 초기화용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.email FROM Customer c")
+    Stream<String> streamAllEmails();
+
+    // 이름 검색 색인 초기화용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.id, c.name FROM Customer c")
+    Stream<Object[]> streamIdAndNames();
+
+    @Query("SELECT new com.jong.h2_db.dto.CustomerSummary(c.id, c.name, c.email, c.isActive) " +
+            "FROM Customer c WHERE c.id IN :ids")
+    List<CustomerSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // DTO 프로젝션 (영속성 컨텍스트에 엔티티를 올리지 않음)
+    @Query("SELECT new com.jong.h2_db.dto.CustomerSummary(c.id, c.name, c.email, c.isActive) " +
+            "FROM Customer c WHERE c.isActive = true ORDER BY c.id")
+    List<CustomerSummary> findActiveSummaries();
+
+    // name 은 LikePatterns.escape 로 이스케이프해서 전달
+    @Query("SELECT new com.jong.h2_db.dto.CustomerSummary(c.id, c.name, c.email, c.isActive) " +
+            "FROM Customer c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\' ORDER BY c.id")
+    List<CustomerSummary> findSummariesByNameContaining(@Param("name") String name);
 }
\ No newline at end of file
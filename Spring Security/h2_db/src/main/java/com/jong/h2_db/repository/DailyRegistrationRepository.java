@@ -0,0 +1,42 @@
+package com.jong.h2_db.repository;
+
+import com.jong.h2_db.dto.DailyRegistrationCount;
+import com.jong.h2_db.model.DailyRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRegistrationRepository extends JpaRepository<DailyRegistration, LocalDate> {
+
+    // 해당 날짜 행이 없으면 만들고 있으면 더함 (H2 MERGE ... USING)
+    @Modifying
+    @Query(value = "MERGE INTO customer_registration_daily t " +
+            "USING (SELECT CAST(:date AS DATE) AS registration_date, CAST(:delta AS BIGINT) AS delta) s " +
+            "ON t.registration_date = s.registration_date " +
+            "WHEN MATCHED THEN UPDATE SET registrations = t.registrations + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (registration_date, registrations) VALUES (s.registration_date, s.delta)",
+            nativeQuery = true)
+    int increment(@Param("date") LocalDate date, @Param("delta") long delta);
+
+    @Query("SELECT new com.jong.h2_db.dto.DailyRegistrationCount(d.date, d.registrations) " +
+            "FROM DailyRegistration d WHERE d.date BETWEEN :from AND :to ORDER BY d.date")
+    List<DailyRegistrationCount> findCounts(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = "DELETE FROM customer_registration_daily", nativeQuery = true)
+    int deleteAllRows();
+
+    // 백필: 고객 테이블을 한 번 훑어 날짜별로 집계
+    @Modifying
+    @Query(value = "INSERT INTO customer_registration_daily (registration_date, registrations) " +
+            "SELECT CAST(created_at AS DATE), COUNT(*) FROM customers WHERE created_at IS NOT NULL " +
+            "GROUP BY CAST(created_at AS DATE)",
+            nativeQuery = true)
+    int backfillFromCustomers();
+}
@@ -0,0 +1,45 @@
+package com.jong.h2_db.repository;
+
+import com.jong.h2_db.dto.MonthlyRegistrationCount;
+import com.jong.h2_db.model.MonthlyRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MonthlyRegistrationRepository extends JpaRepository<MonthlyRegistration, MonthlyRegistration.Key> {
+
+    // 해당 (연, 월) 행이 없으면 만들고 있으면 더함 (H2 MERGE ... USING)
+    @Modifying
+    @Query(value = "MERGE INTO customer_registration_monthly t " +
+            "USING (SELECT CAST(:year AS INT) AS registration_year, CAST(:month AS INT) AS registration_month, " +
+            "CAST(:delta AS BIGINT) AS delta) s " +
+            "ON t.registration_year = s.registration_year AND t.registration_month = s.registration_month " +
+            "WHEN MATCHED THEN UPDATE SET registrations = t.registrations + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (registration_year, registration_month, registrations) " +
+            "VALUES (s.registration_year, s.registration_month, s.delta)",
+            nativeQuery = true)
+    int increment(@Param("year") int year, @Param("month") int month, @Param("delta") long delta);
+
+    // (연, 월) 을 yyyyMM 정수로 비교 (롤업 테이블은 연 12행이라 인덱스 없이도 충분)
+    @Query("SELECT new com.jong.h2_db.dto.MonthlyRegistrationCount(m.year, m.month, m.registrations) " +
+            "FROM MonthlyRegistration m WHERE m.year * 100 + m.month BETWEEN :from AND :to " +
+            "ORDER BY m.year, m.month")
+    List<MonthlyRegistrationCount> findCounts(@Param("from") int fromYearMonth, @Param("to") int toYearMonth);
+
+    @Modifying
+    @Query(value = "DELETE FROM customer_registration_monthly", nativeQuery = true)
+    int deleteAllRows();
+
+    // 백필: 일별 롤업에서 월별로 다시 집계
+    @Modifying
+    @Query(value = "INSERT INTO customer_registration_monthly (registration_year, registration_month, registrations) " +
+            "SELECT YEAR(registration_date), MONTH(registration_date), SUM(registrations) " +
+            "FROM customer_registration_daily GROUP BY YEAR(registration_date), MONTH(registration_date)",
+            nativeQuery = true)
+    int backfillFromDaily();
+}
@@ -0,0 +1,31 @@
+package com.jong.h2_db.repository;
+
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.model.ProductOutboxRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProductOutboxRepository extends JpaRepository<ProductOutboxRecord, Long> {
+
+    @Query("SELECT r FROM ProductOutboxRecord r WHERE r.feedSequence IS NULL ORDER BY r.id")
+    List<ProductOutboxRecord> findUnpublished(Pageable limit);
+
+    @Query("SELECT new com.jong.h2_db.dto.ProductChange(r.feedSequence, r.productId, r.changeType, r.occurredAt) " +
+            "FROM ProductOutboxRecord r WHERE r.feedSequence > :after ORDER BY r.feedSequence")
+    List<ProductChange> findPublishedAfter(@Param("after") long after, Pageable limit);
+
+    @Query("SELECT COALESCE(MAX(r.feedSequence), 0) FROM ProductOutboxRecord r")
+    long findLastSequence();
+
+    @Modifying
+    @Query("DELETE FROM ProductOutboxRecord r WHERE r.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,18 +1,27 @@
 package com.jong.h2_db.repository;
 
+import com.jong.h2_db.dto.ProductSummary;
 import com.jong.h2_db.model.Product;
 import com.jong.h2_db.model.ProductStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     List<Product> findByStatus(ProductStatus status);
 
@@ -24,15 +33,111 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Optional<Product> findByNameAndStatus(String name, ProductStatus status);
 
-    @Query("SELECT p FROM Product p WHERE p.price < :maxPrice AND p.status = 'ACTIVE'")
-    List<Product> findActiveProductsUnderPrice(@Param("maxPrice") BigDecimal maxPrice);
+    // 재고가 충분할 때만 차감하는 단일 조건부 UPDATE (read-modify-write 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, " +
+            "p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int reserveStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 조건 기반 일괄 상태 변경 (재고 0 인 상품)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :newStatus, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.stockQuantity = 0 AND p.status = :currentStatus")
+    int updateStatusOfOutOfStock(@Param("currentStatus") ProductStatus currentStatus,
+                                 @Param("newStatus") ProductStatus newStatus,
+                                 @Param("now") LocalDateTime now);
+
+    // 조건부 GET 용 버전 조회 (엔티티를 만들지 않음)
+    @Query("SELECT p.updatedAt FROM Product p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT p FROM Product p WHERE p.price < :maxPrice AND p.status = 'ACTIVE' ORDER BY p.price, p.id")
+    List<Product> findActiveProductsUnderPrice(@Param("maxPrice") BigDecimal maxPrice, Pageable limit);
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.status = :status")
     long countByStatus(@Param("status") ProductStatus status);
 
-    @Query(value = "SELECT * FROM products WHERE stock_quantity = 0", nativeQuery = true)
-    List<Product> findOutOfStockProducts();
+    // 카운터 보정용
+    @Query("SELECT p.status, COUNT(p) FROM Product p GROUP BY p.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query(value = "SELECT * FROM products WHERE stock_quantity = 0 ORDER BY price, id", nativeQuery = true)
+    List<Product> findOutOfStockProducts(Pageable limit);
 
     @Query("SELECT p FROM Product p WHERE p.stockQuantity < 10 AND p.status = 'ACTIVE'")
     List<Product> findLowStockProducts();
+
+    // 조회 결과 캐시용 ID 조회 (엔티티는 단건 캐시 / PK 조회로 채움, name 은 LikePatterns.escape 로 이스케이프)
+    @Query("SELECT p.id FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\' " +
+            "ORDER BY p.id")
+    List<Long> findIdsByNameContaining(@Param("name") String name, Pageable limit);
+
+    @Query("SELECT p.id FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price, p.id")
+    List<Long> findIdsByPriceBetween(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                     Pageable limit);
+
+    @Query("SELECT p.id FROM Product p WHERE p.stockQuantity < 10 AND p.status = 'ACTIVE' ORDER BY p.price, p.id")
+    List<Long> findLowStockIds(Pageable limit);
+
+    // 키셋 페이지네이션 (OFFSET 없이 마지막 키 이후부터 조회, Pageable 은 LIMIT 용도로만 사용)
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND p.id > :lastId ORDER BY p.id")
+    List<Product> findByStatusAfter(@Param("status") ProductStatus status,
+                                    @Param("lastId") long lastId,
+                                    Pageable limit);
+
+    // name 은 LikePatterns.escape 로 이스케이프해서 전달
+    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\' " +
+            "AND p.id > :lastId ORDER BY p.id")
+    List<Product> findByNameContainingAfter(@Param("name") String name,
+                                            @Param("lastId") long lastId,
+                                            Pageable limit);
+
+    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+            "AND (p.price > :lastPrice OR (p.price = :lastPrice AND p.id > :lastId)) " +
+            "ORDER BY p.price, p.id")
+    List<Product> findByPriceBetweenAfter(@Param("minPrice") BigDecimal minPrice,
+                                          @Param("maxPrice") BigDecimal maxPrice,
+                                          @Param("lastPrice") BigDecimal lastPrice,
+                                          @Param("lastId") long lastId,
+                                          Pageable limit);
+
+    @Query("SELECT p FROM Product p WHERE p.stockQuantity < 10 AND p.status = 'ACTIVE' " +
+            "AND p.id > :lastId ORDER BY p.id")
+    List<Product> findLowStockProductsAfter(@Param("lastId") long lastId, Pageable limit);
+
+    // 전체 카탈로그 스트리밍 (호출 측 트랜잭션 안에서 try-with-resources 로 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.id")
+    Stream<Product> streamAllByOrderById();
+
+    // 카탈로그 스냅샷 생성용 컬럼 스트리밍 (엔티티 생성 없이 필요한 컬럼만 조회)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id, p.price, p.stockQuantity, p.status FROM Product p")
+    Stream<Object[]> streamCatalogColumns();
+
+    // 카탈로그 스냅샷 부분 갱신용 (변경된 상품의 컬럼만 조회)
+    @Query("SELECT p.id, p.price, p.stockQuantity, p.status FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findCatalogColumnsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // DTO 프로젝션 (영속성 컨텍스트에 엔티티를 올리지 않음)
+    @Query("SELECT new com.jong.h2_db.dto.ProductSummary(p.id, p.name, p.price, p.stockQuantity, p.status) " +
+            "FROM Product p WHERE p.status = :status ORDER BY p.id")
+    List<ProductSummary> findSummariesByStatus(@Param("status") ProductStatus status);
+
+    @Query("SELECT new com.jong.h2_db.dto.ProductSummary(p.id, p.name, p.price, p.stockQuantity, p.status) " +
+            "FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price, p.id")
+    List<ProductSummary> findSummariesByPriceBetween(@Param("minPrice") BigDecimal minPrice,
+                                                     @Param("maxPrice") BigDecimal maxPrice);
+
+    @Query("SELECT new com.jong.h2_db.dto.ProductSummary(p.id, p.name, p.price, p.stockQuantity, p.status) " +
+            "FROM Product p WHERE p.stockQuantity < 10 AND p.status = 'ACTIVE' ORDER BY p.id")
+    List<ProductSummary> findLowStockSummaries();
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.jong.h2_db.repository;
+
+import com.jong.h2_db.dto.ProductFields;
+import com.jong.h2_db.model.Product;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 지정한 필드만 SELECT 하는 조회 (필드명 -> 값, 요청한 순서 유지)
+     */
+    List<Map<String, Object>> findFields(ProductFields fields, Specification<Product> specification, Sort sort);
+
+    /**
+     * findFields 와 같되 최대 limit 행만 조회 (LIMIT 으로 DB 에서 자름)
+     */
+    List<Map<String, Object>> findFields(ProductFields fields, Specification<Product> specification, Sort sort,
+                                         int limit);
+}
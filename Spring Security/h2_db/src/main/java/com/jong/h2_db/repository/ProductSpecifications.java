@@ -0,0 +1,50 @@
+package com.jong.h2_db.repository;
+
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.model.ProductStatus;
+import com.jong.h2_db.support.LikePatterns;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * ProductRepository 의 고정 쿼리와 같은 조건을 Criteria 로 표현한 Specification 모음
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> idEquals(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    public static Specification<Product> idIn(Collection<Long> ids) {
+        return (root, query, builder) -> root.get("id").in(ids);
+    }
+
+    // findByNameContainingIgnoreCase 와 같은 조건 (LIKE 와일드카드는 이스케이프)
+    public static Specification<Product> nameContainsIgnoreCase(String name) {
+        String escaped = LikePatterns.escape(name.toLowerCase(Locale.ROOT));
+        return (root, query, builder) ->
+                builder.like(builder.lower(root.get("name")), "%" + escaped + "%", LikePatterns.ESCAPE);
+    }
+
+    public static Specification<Product> hasStatus(ProductStatus status) {
+        return (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+
+    public static Specification<Product> priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, builder) -> builder.between(root.<BigDecimal>get("price"), minPrice, maxPrice);
+    }
+
+    public static Specification<Product> stockBelow(int quantity) {
+        return (root, query, builder) -> builder.lessThan(root.<Integer>get("stockQuantity"), quantity);
+    }
+
+    public static Specification<Product> outOfStock() {
+        return (root, query, builder) -> builder.equal(root.get("stockQuantity"), 0);
+    }
+}
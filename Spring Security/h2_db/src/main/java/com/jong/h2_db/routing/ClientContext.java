@@ -0,0 +1,24 @@
+package com.jong.h2_db.routing;
+
+/**
+ * 현재 요청을 보낸 클라이언트 식별자 (read-your-writes 고정에 사용)
+ */
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static void set(String clientId) {
+        CURRENT.set(clientId);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
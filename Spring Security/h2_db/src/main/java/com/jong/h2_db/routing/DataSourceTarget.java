@@ -0,0 +1,82 @@
+package com.jong.h2_db.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우팅 대상 하나 (주 DB 또는 복제본) 와 그 커넥션 풀
+ */
+public class DataSourceTarget {
+
+    public enum Role {
+        PRIMARY, REPLICA
+    }
+
+    private final String name;
+    private final Role role;
+    private final HikariDataSource dataSource;
+    private final LongAdder routed = new LongAdder();
+
+    // 복제본에 마지막으로 반영한 주 DB 스냅샷의 시작 시각 (null 이면 아직 한 번도 동기화되지 않음)
+    private volatile Instant syncedFrom;
+    private volatile boolean available;
+
+    public DataSourceTarget(String name, Role role, HikariDataSource dataSource) {
+        this.name = name;
+        this.role = role;
+        this.dataSource = dataSource;
+        this.available = role == Role.PRIMARY;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public Instant getSyncedFrom() {
+        return syncedFrom;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getRoutedConnections() {
+        return routed.sum();
+    }
+
+    /**
+     * 풀 상태 (풀이 아직 시작되지 않았으면 null)
+     */
+    public HikariPoolMXBean getPool() {
+        return dataSource.getHikariPoolMXBean();
+    }
+
+    void recordRouted() {
+        routed.increment();
+    }
+
+    void beginSync() {
+        available = false;
+    }
+
+    void endSync(Instant snapshotStartedAt) {
+        syncedFrom = snapshotStartedAt;
+        available = true;
+    }
+
+    // 재적재를 시작하지 못한 경우: 데이터가 그대로이므로 이전 스냅샷으로 다시 라우팅 (한 번도 동기화되지 않았으면 계속 제외)
+    void cancelSync() {
+        available = syncedFrom != null;
+    }
+}
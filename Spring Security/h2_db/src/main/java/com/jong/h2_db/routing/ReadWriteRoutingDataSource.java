@@ -0,0 +1,27 @@
+package com.jong.h2_db.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션의 readOnly 여부로 대상을 고른다.
+ * readOnly 플래그는 트랜잭션 시작 후에 설정되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서
+ * 첫 SQL 실행 시점에 커넥션을 얻도록 해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaRouter router;
+
+    public ReadWriteRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+        setTargetDataSources(router.targetDataSources());
+        setDefaultTargetDataSource(router.getPrimary().getDataSource());
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.route(TransactionSynchronizationManager.isCurrentTransactionReadOnly(), ClientContext.current())
+                .getName();
+    }
+}
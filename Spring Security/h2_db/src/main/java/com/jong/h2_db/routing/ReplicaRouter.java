@@ -0,0 +1,161 @@
+package com.jong.h2_db.routing;
+
+import com.jong.h2_db.dto.DataSourceTargetStats;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보낼지 결정한다
+ * <ul>
+ *     <li>쓰기 트랜잭션은 항상 주 DB</li>
+ *     <li>복제 지연이 maxLag 를 넘은 복제본, 동기화 중인 복제본은 제외</li>
+ *     <li>클라이언트가 쓰기를 커밋한 뒤 readYourWritesWindow 동안은 그 쓰기를 반영한 복제본만 (없으면 주 DB) 사용</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    private final DataSourceTarget primary;
+    private final List<DataSourceTarget> replicas;
+    private final Duration maxLag;
+    private final Duration readYourWritesWindow;
+
+    private final Map<String, Instant> lastWriteByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile Instant lastWrite = Instant.EPOCH;
+
+    public ReplicaRouter(DataSourceTarget primary, List<DataSourceTarget> replicas,
+                         Duration maxLag, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public DataSourceTarget route(boolean readOnly, String clientId) {
+        DataSourceTarget target = readOnly ? pickReplica(clientId) : primary;
+        target.recordRouted();
+        return target;
+    }
+
+    private DataSourceTarget pickReplica(String clientId) {
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+        Instant now = Instant.now();
+        Instant mustInclude = pinnedWrite(clientId, now);
+
+        // 라운드 로빈으로 시작 위치를 돌리고, 조건을 만족하는 첫 복제본 선택
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            DataSourceTarget replica = replicas.get((start + i) % replicas.size());
+            if (isServable(replica, now)
+                    && (mustInclude == null || !replica.getSyncedFrom().isBefore(mustInclude))) {
+                return replica;
+            }
+        }
+        return primary;
+    }
+
+    private boolean isServable(DataSourceTarget replica, Instant now) {
+        Duration lag = lagOf(replica, now);
+        return replica.isAvailable() && lag != null && lag.compareTo(maxLag) <= 0;
+    }
+
+    // 고정 기간 안의 마지막 쓰기 시각 (없으면 null)
+    private Instant pinnedWrite(String clientId, Instant now) {
+        if (clientId == null) {
+            return null;
+        }
+        Instant written = lastWriteByClient.get(clientId);
+        if (written == null || written.plus(readYourWritesWindow).isBefore(now)) {
+            return null;
+        }
+        return written;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 직후 호출
+     */
+    public void recordWrite(String clientId) {
+        Instant now = Instant.now();
+        lastWrite = now;
+        if (clientId != null) {
+            lastWriteByClient.put(clientId, now);
+        }
+    }
+
+    /**
+     * 복제 지연: 마지막 동기화 이후 주 DB 에 쓰기가 없었다면 0, 있었다면 스냅샷 시작 시각부터 지금까지
+     * (한 번도 동기화되지 않았으면 null)
+     */
+    public Duration lagOf(DataSourceTarget replica, Instant now) {
+        Instant syncedFrom = replica.getSyncedFrom();
+        if (syncedFrom == null) {
+            return null;
+        }
+        return lastWrite.isAfter(syncedFrom) ? Duration.between(syncedFrom, now) : Duration.ZERO;
+    }
+
+    public boolean hasWritesSince(Instant instant) {
+        return instant == null || lastWrite.isAfter(instant);
+    }
+
+    public void evictExpiredPins() {
+        Instant expiredBefore = Instant.now().minus(readYourWritesWindow);
+        lastWriteByClient.values().removeIf(written -> written.isBefore(expiredBefore));
+    }
+
+    public DataSourceTarget getPrimary() {
+        return primary;
+    }
+
+    public List<DataSourceTarget> getReplicas() {
+        return replicas;
+    }
+
+    public Map<Object, Object> targetDataSources() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(primary.getName(), primary.getDataSource());
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        return targets;
+    }
+
+    public List<DataSourceTargetStats> stats() {
+        Instant now = Instant.now();
+        List<DataSourceTargetStats> stats = new ArrayList<>(replicas.size() + 1);
+        stats.add(statsOf(primary, Duration.ZERO));
+        replicas.forEach(replica -> stats.add(statsOf(replica, lagOf(replica, now))));
+        return stats;
+    }
+
+    private static DataSourceTargetStats statsOf(DataSourceTarget target, Duration lag) {
+        HikariPoolMXBean pool = target.getPool();
+        return new DataSourceTargetStats(
+                target.getName(),
+                target.getRole().name(),
+                target.isAvailable(),
+                lag == null ? null : lag.toMillis(),
+                target.getRoutedConnections(),
+                pool == null ? 0 : pool.getActiveConnections(),
+                pool == null ? 0 : pool.getIdleConnections(),
+                pool == null ? 0 : pool.getTotalConnections(),
+                pool == null ? 0 : pool.getThreadsAwaitingConnection());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+        primary.getDataSource().close();
+        log.info("Closed {} replica pools and the primary pool", replicas.size());
+    }
+}
@@ -0,0 +1,121 @@
+package com.jong.h2_db.routing;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 복제 대용: 주 DB 를 H2 SCRIPT 로 내보내고 각 복제본에 RUNSCRIPT 로 다시 적재한다.
+ * 복제본은 하나씩 순서대로 갱신하고 갱신 중인 복제본만 라우팅에서 빠지므로 나머지는 계속 읽기를 받는다.
+ * 갱신 전에 복제본 풀을 멈추고 이미 빌려 간 커넥션이 반납되기를 기다리므로, 진행 중인 읽기가 적재 도중의 빈 DB 를 보지 않는다.
+ * 동기화 주기가 곧 최대 복제 지연이 된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.replicas", name = "enabled", havingValue = "true")
+public class ReplicaSynchronizer {
+
+    private final ReplicaRouter router;
+    private final Duration drainTimeout;
+
+    public ReplicaSynchronizer(ReplicaRouter router,
+                               @Value("${app.replicas.drain-timeout:PT5S}") Duration drainTimeout) {
+        this.router = router;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${app.replicas.sync-interval:PT1S}")
+    public void synchronize() {
+        // 마지막 동기화 이후 쓰기가 없는 복제본은 건너뜀
+        boolean stale = router.getReplicas().stream()
+                .anyMatch(replica -> router.hasWritesSince(replica.getSyncedFrom()));
+        if (!stale) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Path script = null;
+        try {
+            script = Files.createTempFile("replica-sync-", ".sql");
+            Instant snapshotStartedAt = Instant.now();
+            try (Connection connection = router.getPrimary().getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT NOPASSWORDS NOSETTINGS TO " + literal(script));
+            }
+            for (DataSourceTarget replica : router.getReplicas()) {
+                if (router.hasWritesSince(replica.getSyncedFrom())) {
+                    load(replica, script, snapshotStartedAt);
+                }
+            }
+            router.evictExpiredPins();
+            log.debug("Replicas synchronized in {}ms", System.currentTimeMillis() - start);
+        } catch (IOException | SQLException e) {
+            log.warn("Replica synchronization failed: {}", e.getMessage());
+        } finally {
+            if (script != null) {
+                try {
+                    Files.deleteIfExists(script);
+                } catch (IOException e) {
+                    log.warn("Could not delete replica script {}: {}", script, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void load(DataSourceTarget replica, Path script, Instant snapshotStartedAt) throws SQLException {
+        // 실패하면 객체가 지워졌을 수 있으므로 다음 동기화에 성공할 때까지 라우팅에서 제외된 채로 둔다
+        replica.beginSync();
+        // 적재용 커넥션을 먼저 빌린 뒤 풀을 멈춘다 (멈춘 동안 다른 대여는 재개될 때까지 대기)
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            HikariPoolMXBean pool = replica.getPool();
+            pool.suspendPool();
+            try {
+                if (!awaitDrained(pool)) {
+                    log.warn("Replica {} still has {} active connections after {}, skipping this sync",
+                            replica.getName(), pool.getActiveConnections() - 1, drainTimeout);
+                    replica.cancelSync();
+                    return;
+                }
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM " + literal(script));
+            } finally {
+                pool.resumePool();
+            }
+        }
+        replica.endSync(snapshotStartedAt);
+    }
+
+    // 적재용 커넥션 하나만 남을 때까지 대기
+    private boolean awaitDrained(HikariPoolMXBean pool) {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (pool.getActiveConnections() > 1) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String literal(Path path) {
+        return "'" + path.toAbsolutePath().toString().replace('\\', '/').replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,27 @@
+package com.jong.h2_db.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 쓰기 트랜잭션 커밋을 라우터에 알린다 (트랜잭션 매니저에 자동 등록됨)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.replicas", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WriteTrackingListener implements TransactionExecutionListener {
+
+    private final ReplicaRouter router;
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && transaction.hasTransaction()
+                && !transaction.isReadOnly()) {
+            router.recordWrite(ClientContext.current());
+        }
+    }
+}
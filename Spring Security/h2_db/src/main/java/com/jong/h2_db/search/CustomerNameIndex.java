@@ -0,0 +1,251 @@
+package com.jong.h2_db.search;
+
+import com.jong.h2_db.event.CustomerChangeType;
+import com.jong.h2_db.event.CustomerChangedEvent;
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.shard.CustomerShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 고객 이름 검색 색인 (한글 초성 검색 지원)
+ * <ul>
+ *     <li>초성이 섞인 검색어("ㄱㅊㅅ", "김ㅊ") 는 이름의 초성 문자열을 키로 하는 정렬 맵에서 접두사 범위를 훑는다.</li>
+ *     <li>완성형 검색어("철수") 는 글자 단위 역색인의 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerNameIndex {
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final CustomerShards customerShards;
+
+    private final Map<Long, IndexedName> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> byInitials = new TreeMap<>();
+    private final Map<Character, Set<Long>> bySyllable = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            byInitials.clear();
+            bySyllable.clear();
+            customerShards.forEachShard(repository -> {
+                try (Stream<Object[]> names = repository.streamIdAndNames()) {
+                    names.forEach(row -> addDocument((Long) row[0], (String) row[1]));
+                }
+            });
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Customer name index built: {} customers in {}ms",
+                documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.type() == CustomerChangeType.STATUS_CHANGED) {
+            // 이름과 무관
+            return;
+        }
+        customerShards.findById(event.customerId())
+                .ifPresent(this::index);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Customer customer) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(customer.getId());
+            addDocument(customer.getId(), customer.getName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 고객 ID (앞쪽에서 일치할수록, 이름이 짧을수록 먼저)
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return containsInitial(normalized) ? searchByInitials(normalized, limit) : searchBySyllables(normalized, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 접두사 일치: 초성 키 범위만 훑고 limit 개를 채우면 멈춘다 (키 순서 = 이름 순서)
+    private List<Long> searchByInitials(String query, int limit) {
+        String prefix = initials(query);
+        List<Long> result = new ArrayList<>(limit);
+        for (Set<Long> ids : byInitials.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            List<Long> sorted = new ArrayList<>(ids);
+            sorted.sort(Comparator.naturalOrder());
+            for (Long id : sorted) {
+                if (matchesPrefix(documents.get(id).name(), query)) {
+                    result.add(id);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Long> searchBySyllables(String query, int limit) {
+        List<Set<Long>> postings = new ArrayList<>();
+        for (char c : query.toCharArray()) {
+            Set<Long> posting = bySyllable.get(c);
+            if (posting == null) {
+                return List.of();
+            }
+            postings.add(posting);
+        }
+        // 가장 작은 posting 부터 교집합
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : candidates) {
+            String name = documents.get(id).name();
+            int position = name.indexOf(query);
+            if (position >= 0) {
+                hits.add(new Hit(id, position, name.length()));
+            }
+        }
+        return hits.stream()
+                .sorted(Comparator.comparingInt(Hit::position)
+                        .thenComparingInt(Hit::length)
+                        .thenComparingLong(Hit::customerId))
+                .limit(limit)
+                .map(Hit::customerId)
+                .toList();
+    }
+
+    private void addDocument(Long id, String name) {
+        IndexedName document = new IndexedName(normalize(name), initials(normalize(name)));
+        documents.put(id, document);
+        byInitials.computeIfAbsent(document.initials(), key -> new HashSet<>()).add(id);
+        for (char c : document.name().toCharArray()) {
+            bySyllable.computeIfAbsent(c, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeDocument(Long id) {
+        IndexedName previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        Set<Long> sameInitials = byInitials.get(previous.initials());
+        if (sameInitials != null && sameInitials.remove(id) && sameInitials.isEmpty()) {
+            byInitials.remove(previous.initials());
+        }
+        for (char c : previous.name().toCharArray()) {
+            Set<Long> posting = bySyllable.get(c);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                bySyllable.remove(c);
+            }
+        }
+    }
+
+    // 검색어의 각 글자가 초성이면 초성 비교, 아니면 글자 그대로 비교
+    private static boolean matchesPrefix(String name, String query) {
+        if (name.length() < query.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char n = name.charAt(i);
+            if (isInitial(q) ? initialOf(n) != q : n != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String initials(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            initials.append(initialOf(c));
+        }
+        return initials.toString();
+    }
+
+    static char initialOf(char c) {
+        if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+            return INITIALS[(c - HANGUL_BASE) / SYLLABLES_PER_INITIAL];
+        }
+        return c;
+    }
+
+    private static boolean isInitial(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean containsInitial(String text) {
+        return text.chars().anyMatch(c -> isInitial((char) c));
+    }
+
+    // 공백 제거 + 소문자 + 조합형 초성(U+1100~)을 호환용 자모로 변환
+    static String normalize(String text) {
+        String normalized = ProductSearchIndex.normalize(text).replace(" ", "");
+        StringBuilder result = new StringBuilder(normalized.length());
+        for (char c : normalized.toCharArray()) {
+            result.append(c >= 'ᄀ' && c <= 'ᄒ' ? INITIALS[c - 'ᄀ'] : c);
+        }
+        return result.toString();
+    }
+
+    private record IndexedName(String name, String initials) {
+    }
+
+    private record Hit(Long customerId, int position, int length) {
+    }
+}
@@ -0,0 +1,368 @@
+package com.jong.h2_db.search;
+
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 상품명/설명 n-gram 역색인
+ * <ul>
+ *     <li>상품명은 1~3 글자 gram 을 색인하므로 "폰" 처럼 짧은 한글 검색어도 색인으로 처리한다. 설명은 trigram 만 색인한다.</li>
+ *     <li>상품마다 증가하는 문서 번호를 붙이고 posting 은 정렬된 int 배열로 보관한다 (박싱 없음, 추가는 항상 끝에).</li>
+ *     <li>수정/삭제된 상품의 이전 문서 번호는 삭제 표시만 하고 검색 시 건너뛰며, 삭제 표시가 쌓이면 메모리의 문서로 색인을 다시 압축한다.</li>
+ *     <li>검색어 길이가 3 이상이면 trigram 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인하고, 상위 limit 개만 힙으로 고른다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    static final int MAX_GRAM_SIZE = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    // 점수가 낮을수록, 같은 점수면 ID 가 클수록 먼저 밀려남
+    private static final Comparator<SearchHit> WORST_FIRST = Comparator.comparingInt(SearchHit::score)
+            .thenComparing(Comparator.comparingLong(SearchHit::productId).reversed());
+
+    private final ProductRepository productRepository;
+
+    private final Map<String, Postings> namePostings = new HashMap<>();
+    private final Map<String, Postings> descriptionPostings = new HashMap<>();
+    private final Map<Long, Integer> docByProduct = new HashMap<>();
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    // 삭제된 문서는 null
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private int docCount;
+    private int deletedCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<Product> products = productRepository.streamAllByOrderById()) {
+                products.forEach(product -> addDocument(product.getId(),
+                        normalize(product.getName()), normalize(product.getDescription())));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index built: {} products, {} grams in {}ms",
+                docByProduct.size(), namePostings.size() + descriptionPostings.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isBulk()) {
+            // 조건 기반 일괄 변경은 상태/재고만 바꾸므로 색인 대상이 아님
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> productRepository.findById(event.productId())
+                    .ifPresentOrElse(this::index, () -> remove(event.productId()));
+            case DELETED -> remove(event.productId());
+            default -> {
+                // 가격/재고/상태 변경은 색인 대상 필드와 무관
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Product product) {
+        String name = normalize(product.getName());
+        String description = normalize(product.getDescription());
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByProduct.get(product.getId());
+            if (doc != null && name.equals(names[doc]) && description.equals(descriptions[doc])) {
+                // 색인 대상 텍스트가 그대로면 다시 색인하지 않음
+                return;
+            }
+            removeDocument(product.getId());
+            addDocument(product.getId(), name, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 순으로 정렬된 상품 ID 목록 (상품명 일치 > 설명 일치)
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(Math.min(limit, 1024) + 1, WORST_FIRST);
+            for (int doc : candidatesFor(normalized)) {
+                if (names[doc] == null) {
+                    continue;
+                }
+                int score = score(names[doc], descriptions[doc], normalized);
+                if (score > 0) {
+                    top.offer(new SearchHit(productIds[doc], score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Long> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(top.poll().productId());
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 후보 문서 번호 (오름차순, 삭제 표시된 문서 포함)
+    private int[] candidatesFor(String normalized) {
+        int length = normalized.codePointCount(0, normalized.length());
+        if (length <= MAX_GRAM_SIZE) {
+            // 검색어 자체가 하나의 gram
+            int[] inName = docsOf(namePostings.get(normalized));
+            int[] inDescription = length == MAX_GRAM_SIZE ? docsOf(descriptionPostings.get(normalized)) : new int[0];
+            return union(inName, inDescription);
+        }
+        List<String> trigrams = grams(normalized, MAX_GRAM_SIZE);
+        return union(intersect(namePostings, trigrams), intersect(descriptionPostings, trigrams));
+    }
+
+    private static int[] intersect(Map<String, Postings> postings, List<String> grams) {
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Postings posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 posting 부터 교집합
+        lists.sort(Comparator.comparingInt(Postings::size));
+        int[] result = lists.get(0).toArray();
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            Postings other = lists.get(i);
+            int kept = 0;
+            for (int j = 0; j < size; j++) {
+                if (other.contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] union(int[] left, int[] right) {
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.length == 0) {
+            return right;
+        }
+        int[] result = new int[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            int next;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                next = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                next = right[j++];
+            } else {
+                next = left[i++];
+                j++;
+            }
+            result[size++] = next;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] docsOf(Postings posting) {
+        return posting == null ? new int[0] : posting.toArray();
+    }
+
+    private void addDocument(long productId, String name, String description) {
+        if (docCount == productIds.length) {
+            int capacity = docCount * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+        }
+        int doc = docCount++;
+        productIds[doc] = productId;
+        names[doc] = name;
+        descriptions[doc] = description;
+        docByProduct.put(productId, doc);
+        for (int size = 1; size <= MAX_GRAM_SIZE; size++) {
+            for (String gram : grams(name, size)) {
+                namePostings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        }
+        for (String gram : grams(description, MAX_GRAM_SIZE)) {
+            descriptionPostings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    private void removeDocument(Long productId) {
+        Integer doc = docByProduct.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        names[doc] = null;
+        descriptions[doc] = null;
+        deletedCount++;
+        if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount * 4L >= docCount) {
+            compact();
+        }
+    }
+
+    // 삭제 표시된 문서를 빼고 문서 번호와 posting 을 다시 만든다 (DB 조회 없음)
+    private void compact() {
+        long start = System.currentTimeMillis();
+        long[] previousIds = productIds;
+        String[] previousNames = names;
+        String[] previousDescriptions = descriptions;
+        int previousCount = docCount;
+        clear();
+        for (int doc = 0; doc < previousCount; doc++) {
+            if (previousNames[doc] != null) {
+                addDocument(previousIds[doc], previousNames[doc], previousDescriptions[doc]);
+            }
+        }
+        log.debug("Product search index compacted: {} products in {}ms",
+                docCount, System.currentTimeMillis() - start);
+    }
+
+    private void clear() {
+        namePostings.clear();
+        descriptionPostings.clear();
+        docByProduct.clear();
+        productIds = new long[INITIAL_CAPACITY];
+        names = new String[INITIAL_CAPACITY];
+        descriptions = new String[INITIAL_CAPACITY];
+        docCount = 0;
+        deletedCount = 0;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    static List<String> grams(String text, int size) {
+        int[] codePoints = text.codePoints().toArray();
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + size <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, size));
+        }
+        return grams;
+    }
+
+    private static int score(String name, String description, String query) {
+        int score = 0;
+        int position = name.indexOf(query);
+        if (position >= 0) {
+            score += 100 - Math.min(position, 50);
+            if (position == 0) {
+                score += 50;
+            }
+            if (name.length() == query.length()) {
+                score += 50;
+            }
+        }
+        if (description.contains(query)) {
+            score += 10;
+        }
+        return score;
+    }
+
+    /**
+     * 정렬된 문서 번호 목록 (문서 번호는 증가하는 순서로만 추가되므로 끝에 붙이기만 하면 정렬이 유지된다)
+     */
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private int size;
+
+        void add(int doc) {
+            // 같은 문서에 gram 이 여러 번 나와도 한 번만
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+
+    private record SearchHit(long productId, int score) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.jong.h2_db.segment;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * 만 나이 구간 [minAge, maxAge] 와 그에 해당하는 생년월일 범위
+ * 나이 조건을 date_of_birth 범위 조건으로 바꿔 인덱스를 탈 수 있게 한다.
+ * {@link #ageOn(LocalDate, LocalDate)} 와 같은 기준(Period)이라 범위 조회 결과와 Customer.getAge() 가 항상 일치한다.
+ */
+public record AgeBracket(int minAge, int maxAge) {
+
+    public static final int MAX_AGE = 150;
+
+    public AgeBracket {
+        if (minAge < 0 || maxAge > MAX_AGE || minAge > maxAge) {
+            throw new IllegalArgumentException("나이 구간은 0 ~ " + MAX_AGE + " 사이여야 합니다: " + minAge + " ~ " + maxAge);
+        }
+    }
+
+    public static AgeBracket atLeast(int minAge) {
+        return new AgeBracket(minAge, MAX_AGE);
+    }
+
+    public static int ageOn(LocalDate dateOfBirth, LocalDate today) {
+        return Period.between(dateOfBirth, today).getYears();
+    }
+
+    // 만 minAge 세 이상 ⇔ 생일이 today - minAge 년 이전(포함)
+    public LocalDate bornOnOrBefore(LocalDate today) {
+        return today.minusYears(minAge);
+    }
+
+    // 만 maxAge 세 이하 ⇔ 생일이 today - (maxAge + 1) 년 이후(제외)
+    public LocalDate bornAfter(LocalDate today) {
+        return today.minusYears(maxAge + 1L);
+    }
+}
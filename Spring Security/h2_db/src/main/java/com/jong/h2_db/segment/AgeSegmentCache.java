@@ -0,0 +1,83 @@
+package com.jong.h2_db.segment;
+
+import com.jong.h2_db.dto.CustomerSummary;
+import com.jong.h2_db.event.CustomerChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 나이 구간별 활성 고객 목록 캐시
+ * 나이는 날짜가 바뀌면 달라지므로 캐시는 적재한 날짜에만 유효하고, 고객 변경 시에도 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class AgeSegmentCache {
+
+    private final ConcurrentHashMap<AgeBracket, List<CustomerSummary>> segments = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가. 조회 도중 무효화가 있었다면 읽은 값을 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile LocalDate day = LocalDate.now();
+
+    /**
+     * 오늘 날짜 (날짜가 바뀌었으면 캐시를 비운 뒤 반환)
+     */
+    public LocalDate today() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(day)) {
+            synchronized (this) {
+                if (!today.equals(day)) {
+                    log.debug("Day rolled over to {}, clearing age segments", today);
+                    invalidate();
+                    day = today;
+                }
+            }
+        }
+        return today;
+    }
+
+    public Optional<List<CustomerSummary>> get(AgeBracket bracket) {
+        today();
+        return Optional.ofNullable(segments.get(bracket));
+    }
+
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void putIfUnchanged(AgeBracket bracket, LocalDate loadedFor, List<CustomerSummary> customers, long stamp) {
+        if (invalidations.get() == stamp && loadedFor.equals(day)) {
+            segments.put(bracket, List.copyOf(customers));
+        }
+    }
+
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        segments.clear();
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    // 쓰기 트랜잭션 안에서 즉시 제거
+    @EventListener
+    public void invalidateOnChange(CustomerChangedEvent event) {
+        invalidate();
+    }
+
+    // 커밋/롤백 직후 한 번 더 제거하여 트랜잭션 도중 다시 적재된 구간(롤백된 변경 포함)을 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void invalidateAfterCompletion(CustomerChangedEvent event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,489 @@
+package com.jong.h2_db.service;
+
+import com.jong.h2_db.dto.CustomerImportProgress;
+import com.jong.h2_db.dto.ImportRowError;
+import com.jong.h2_db.event.CustomerChangeType;
+import com.jong.h2_db.event.CustomerChangedEvent;
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.shard.CustomerShards;
+import com.jong.h2_db.support.BloomFilter;
+import com.jong.h2_db.support.CsvLineParser;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 고객 대량 가져오기 (CSV)
+ * 업로드를 임시 파일로 받아 두고 백그라운드 작업으로 처리하며, 진행 상황과 거부 행 목록을 작업 ID 로 조회한다.
+ * <ol>
+ *     <li>기존 이메일을 한 번 스트리밍해서 Bloom 필터에 적재 (행마다 findByEmail 하지 않음)</li>
+ *     <li>청크 단위로 파싱/Bean Validation 을 병렬 수행</li>
+ *     <li>Bloom 필터가 "있을 수도 있음" 으로 답한 이메일만 청크마다 IN 조회 한 번으로 확인</li>
+ *     <li>청크마다 한 트랜잭션으로 saveAll → flush (JDBC 배치 INSERT) 하고 가입 롤업을 날짜별로 한 번 증가</li>
+ *     <li>그 사이 다른 요청이 같은 이메일을 저장해 제약 위반이 나면, 이미 있는 이메일만 거부하고 나머지를 한 번 더 저장</li>
+ * </ol>
+ * 샤딩 시에는 샤드마다 따로 커밋되므로 청크 결과를 샤드 단위로 집계한다 (실패한 샤드의 행만 거부).
+ */
+@Slf4j
+@Service
+public class CustomerImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 10_000;
+    public static final int MAX_RETAINED_JOBS = 20;
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final long ESTIMATED_BYTES_PER_ROW = 64;
+    private static final List<String> CSV_COLUMNS = List.of("name", "email", "phone", "dateOfBirth", "address");
+
+    private final CustomerShards customerShards;
+    private final RegistrationRollupService registrationRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final ExecutorService importer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "customer-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CustomerImportService(CustomerShards customerShards,
+                                 RegistrationRollupService registrationRollupService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Validator validator,
+                                 PlatformTransactionManager transactionManager) {
+        this.customerShards = customerShards;
+        this.registrationRollupService = registrationRollupService;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 업로드를 임시 파일로 저장하고 가져오기 작업을 예약한다 (작업은 한 번에 하나씩 순서대로 실행)
+     */
+    public CustomerImportProgress startImport(InputStream input) {
+        Path file;
+        try {
+            file = Files.createTempFile("customer-import-", ".csv");
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일을 저장할 수 없습니다", e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        register(job);
+        log.info("Customer import {} queued ({} bytes)", job.id, file.toFile().length());
+        importer.execute(() -> run(job, file));
+        return job.progress();
+    }
+
+    public Optional<CustomerImportProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::progress);
+    }
+
+    public Optional<List<ImportRowError>> getErrors(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::errors);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importer.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.start();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            BloomFilter knownEmails = loadKnownEmails(Files.size(file) / ESTIMATED_BYTES_PER_ROW);
+
+            long lineNumber = 0;
+            Map<String, Integer> header = null;
+            List<RawLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+                chunk.add(new RawLine(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(job, chunk, header, knownEmails);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, header, knownEmails);
+            }
+            job.finish("COMPLETED", null);
+        } catch (IOException | RuntimeException e) {
+            log.error("Customer import {} failed: {}", job.id, e.getMessage(), e);
+            job.finish("FAILED", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}: {}", file, e.getMessage());
+            }
+        }
+
+        CustomerImportProgress progress = job.progress();
+        log.info("Customer import {} {}: {} imported, {} rejected ({} duplicates) - {} rows/sec",
+                job.id, progress.status(), progress.importedRows(), progress.rejectedRows(),
+                progress.duplicateRows(), Math.round(progress.rowsPerSecond()));
+    }
+
+    private BloomFilter loadKnownEmails(long estimatedRows) {
+        long existing = customerShards.count();
+        BloomFilter filter = BloomFilter.create(existing + estimatedRows, BLOOM_FALSE_POSITIVE_RATE);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            customerShards.forEachShard(repository -> {
+                try (Stream<String> emails = repository.streamAllEmails()) {
+                    emails.forEach(filter::put);
+                }
+            });
+        });
+        log.debug("Loaded {} existing emails into bloom filter ({} bytes)", existing, filter.sizeInBytes());
+        return filter;
+    }
+
+    private void importChunk(ImportJob job, List<RawLine> chunk, Map<String, Integer> header, BloomFilter knownEmails) {
+        // 파싱/검증은 행끼리 독립적이라 병렬로 처리 (순서는 유지됨)
+        List<ParsedLine> parsed = chunk.parallelStream()
+                .map(raw -> parse(raw, header))
+                .toList();
+
+        Set<String> chunkEmails = new HashSet<>();
+        List<ParsedLine> valid = new ArrayList<>(parsed.size());
+        List<String> maybeKnown = new ArrayList<>();
+        for (ParsedLine line : parsed) {
+            if (line.customer() == null) {
+                job.reject(line.line(), line.error(), false);
+                continue;
+            }
+            String email = line.customer().getEmail();
+            if (!chunkEmails.add(email)) {
+                job.reject(line.line(), "파일 안에서 중복된 이메일입니다: " + email, true);
+                continue;
+            }
+            if (knownEmails.mightContain(email)) {
+                maybeKnown.add(email);
+            }
+            valid.add(line);
+        }
+
+        // 거짓 양성 가능성이 있으므로 후보만 DB 로 확인
+        Set<String> existing = maybeKnown.isEmpty() ? Set.of() : new HashSet<>(customerShards.findExistingEmails(maybeKnown));
+        List<ParsedLine> accepted = new ArrayList<>(valid.size());
+        for (ParsedLine line : valid) {
+            if (existing.contains(line.customer().getEmail())) {
+                job.reject(line.line(), "이미 등록된 이메일입니다: " + line.customer().getEmail(), true);
+            } else {
+                accepted.add(line);
+            }
+        }
+        job.processed.addAndGet(chunk.size());
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+        save(job, accepted, knownEmails, true);
+    }
+
+    private void save(ImportJob job, List<ParsedLine> lines, BloomFilter knownEmails, boolean retryOnConflict) {
+        if (customerShards.isSharded()) {
+            saveSharded(job, lines, knownEmails, retryOnConflict);
+            return;
+        }
+        List<Customer> customers = lines.stream().map(ParsedLine::customer).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // ID 는 persist 시점에 애플리케이션이 발급하므로 INSERT 가 flush 까지 미뤄지고 hibernate.jdbc.batch_size 단위로 묶인다.
+                // clear 하지 않는 이유: 커밋 후 리스너(이름 색인 등)가 1차 캐시에서 바로 읽도록 (트랜잭션 종료 시 함께 정리됨)
+                customerShards.saveAll(customers);
+                recordRegistrations(customers);
+                publishCreated(customers);
+            });
+            markImported(job, customers, knownEmails);
+        } catch (DataIntegrityViolationException e) {
+            rejectOrRetry(job, lines, knownEmails, retryOnConflict, e);
+        } catch (RuntimeException e) {
+            rejectAll(job, lines, e);
+        }
+    }
+
+    // 샤드마다 따로 커밋되므로 결과도 샤드별로 반영 (이미 커밋된 행을 거부로 보고하지 않는다)
+    private void saveSharded(ImportJob job, List<ParsedLine> lines, BloomFilter knownEmails, boolean retryOnConflict) {
+        Map<String, ParsedLine> byEmail = lines.stream()
+                .collect(Collectors.toMap(line -> line.customer().getEmail(), Function.identity()));
+        List<Customer> saved = new ArrayList<>(lines.size());
+        for (CustomerShards.ShardWrite write : customerShards.saveAllByShard(
+                lines.stream().map(ParsedLine::customer).toList())) {
+            if (write.isCommitted()) {
+                saved.addAll(write.saved());
+                continue;
+            }
+            List<ParsedLine> failed = write.requested().stream()
+                    .map(customer -> byEmail.get(customer.getEmail()))
+                    .toList();
+            if (write.failure() instanceof DataIntegrityViolationException e) {
+                rejectOrRetry(job, failed, knownEmails, retryOnConflict, e);
+            } else {
+                rejectAll(job, failed, write.failure());
+            }
+        }
+        if (saved.isEmpty()) {
+            return;
+        }
+        markImported(job, saved, knownEmails);
+
+        // 롤업은 샤드 저장과 별도 트랜잭션이라 실패해도 저장된 행은 가져온 것으로 남긴다 (backfill 로 다시 맞출 수 있음)
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordRegistrations(saved));
+        } catch (RuntimeException e) {
+            log.warn("Customer import {} could not update registration rollups for {} customers: {}",
+                    job.id, saved.size(), e.getMessage());
+        }
+        // 트랜잭션 밖에서 발행하므로 리스너가 바로 실행된다 (fallbackExecution)
+        publishCreated(saved);
+    }
+
+    // 확인과 저장 사이에 다른 요청이 같은 이메일을 저장한 경우: 이미 있는 이메일만 거부하고 나머지는 한 번 더 저장
+    private void rejectOrRetry(ImportJob job, List<ParsedLine> lines, BloomFilter knownEmails, boolean retryOnConflict,
+                               DataIntegrityViolationException e) {
+        if (!retryOnConflict) {
+            rejectAll(job, lines, e);
+            return;
+        }
+        Set<String> existing = new HashSet<>(customerShards.findExistingEmails(
+                lines.stream().map(line -> line.customer().getEmail()).toList()));
+        List<ParsedLine> clean = new ArrayList<>(lines.size());
+        for (ParsedLine line : lines) {
+            String email = line.customer().getEmail();
+            if (existing.contains(email)) {
+                knownEmails.put(email);
+                job.reject(line.line(), "이미 등록된 이메일입니다: " + email, true);
+            } else {
+                clean.add(line.forRetry());
+            }
+        }
+        log.info("Customer import {} hit a constraint violation: {} rows already exist, retrying {} rows",
+                job.id, lines.size() - clean.size(), clean.size());
+        if (!clean.isEmpty()) {
+            save(job, clean, knownEmails, false);
+        }
+    }
+
+    private void rejectAll(ImportJob job, List<ParsedLine> lines, RuntimeException e) {
+        log.warn("Customer import {} failed to save {} rows ending at line {}: {}",
+                job.id, lines.size(), lines.get(lines.size() - 1).line(), e.getMessage());
+        for (ParsedLine line : lines) {
+            job.reject(line.line(), "청크 저장 실패: " + e.getMessage(), false);
+        }
+    }
+
+    private void markImported(ImportJob job, List<Customer> customers, BloomFilter knownEmails) {
+        customers.forEach(customer -> knownEmails.put(customer.getEmail()));
+        job.imported.addAndGet(customers.size());
+    }
+
+    private void recordRegistrations(List<Customer> customers) {
+        registrationRollupService.recordRegistrations(customers.stream()
+                .collect(Collectors.groupingBy(c -> c.getCreatedAt().toLocalDate(), TreeMap::new,
+                        Collectors.counting())));
+    }
+
+    private void publishCreated(List<Customer> customers) {
+        for (Customer customer : customers) {
+            eventPublisher.publishEvent(CustomerChangedEvent.of(customer.getId(), CustomerChangeType.CREATED));
+        }
+    }
+
+    private ParsedLine parse(RawLine raw, Map<String, Integer> header) {
+        try {
+            List<String> fields = CsvLineParser.parse(raw.text());
+            if (fields.size() != header.size()) {
+                throw new IllegalArgumentException("열 개수가 헤더와 다릅니다: " + fields.size());
+            }
+            String dateOfBirth = field(fields, header, "dateOfBirth");
+            Customer customer = new Customer(
+                    field(fields, header, "name"),
+                    field(fields, header, "email"),
+                    field(fields, header, "phone"),
+                    dateOfBirth == null ? null : LocalDate.parse(dateOfBirth),
+                    field(fields, header, "address"));
+
+            Set<ConstraintViolation<Customer>> violations = validator.validate(customer);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                return ParsedLine.rejected(raw.line(), message);
+            }
+            return ParsedLine.accepted(raw.line(), customer);
+        } catch (DateTimeParseException e) {
+            return ParsedLine.rejected(raw.line(), "생년월일 형식이 올바르지 않습니다 (yyyy-MM-dd): " + e.getParsedString());
+        } catch (IllegalArgumentException e) {
+            return ParsedLine.rejected(raw.line(), e.getMessage());
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Map<String, Integer> parseHeader(String line) {
+        // BOM 이 붙은 파일도 허용
+        String text = line.startsWith("\uFEFF") ? line.substring(1) : line;
+        List<String> columns = CsvLineParser.parse(text);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("알 수 없는 CSV 열입니다: " + column);
+            }
+            header.put(column, i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("email")) {
+            throw new IllegalArgumentException("CSV 헤더에는 name, email 열이 필요합니다");
+        }
+        return header;
+    }
+
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            // 오래된 완료 작업부터 정리
+            jobs.values().removeIf(existing -> jobs.size() >= MAX_RETAINED_JOBS && existing.isFinished());
+            jobs.put(job.id, job);
+        }
+    }
+
+    private record RawLine(long line, String text) {
+    }
+
+    private record ParsedLine(long line, Customer customer, String error) {
+
+        static ParsedLine accepted(long line, Customer customer) {
+            return new ParsedLine(line, customer, null);
+        }
+
+        static ParsedLine rejected(long line, String error) {
+            return new ParsedLine(line, null, error);
+        }
+
+        // 롤백된 저장에서 ID 와 생성 시각이 이미 채워졌으므로 같은 값으로 새 엔티티를 만든다
+        ParsedLine forRetry() {
+            return accepted(line, new Customer(customer.getName(), customer.getEmail(), customer.getPhone(),
+                    customer.getDateOfBirth(), customer.getAddress()));
+        }
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final List<ImportRowError> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        ImportJob(String id) {
+            this.id = id;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            startedNanos = System.nanoTime();
+            status = "RUNNING";
+        }
+
+        void finish(String status, String message) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            this.message = message;
+            this.status = status;
+        }
+
+        boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        void reject(long line, String error, boolean duplicate) {
+            rejected.incrementAndGet();
+            if (duplicate) {
+                duplicates.incrementAndGet();
+            }
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(line, error));
+            }
+        }
+
+        List<ImportRowError> errors() {
+            synchronized (errors) {
+                return List.copyOf(errors);
+            }
+        }
+
+        CustomerImportProgress progress() {
+            long elapsedNanos = startedAt == null ? 0
+                    : (finishedAt == null ? System.nanoTime() : finishedNanos) - startedNanos;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : processed.get() * 1_000_000_000.0 / elapsedNanos;
+            return new CustomerImportProgress(id, status, processed.get(), imported.get(), rejected.get(),
+                    duplicates.get(), startedAt, finishedAt, elapsedNanos / 1_000_000, rowsPerSecond, message);
+        }
+    }
+}
@@ -1,15 +1,42 @@
 package com.jong.h2_db.service;
 
+import com.jong.h2_db.analytics.EmailDomainAnalytics;
+import com.jong.h2_db.cache.CachedQuery;
+import com.jong.h2_db.cache.QueryResultCache;
+import com.jong.h2_db.cache.QueryTag;
+import com.jong.h2_db.counter.EntityCounterListener;
+import com.jong.h2_db.counter.EntityCounterRegistry;
+import com.jong.h2_db.dto.CustomerSummary;
+import com.jong.h2_db.dto.DailyRegistrationCount;
+import com.jong.h2_db.dto.EmailDomainStats;
+import com.jong.h2_db.dto.EntityCounts;
+import com.jong.h2_db.dto.MonthlyRegistrationCount;
+import com.jong.h2_db.dto.QueryCacheStats;
+import com.jong.h2_db.event.CustomerChangeType;
+import com.jong.h2_db.event.CustomerChangedEvent;
 import com.jong.h2_db.model.Customer;
 import com.jong.h2_db.repository.CustomerRepository;
+import com.jong.h2_db.search.CustomerNameIndex;
+import com.jong.h2_db.segment.AgeBracket;
+import com.jong.h2_db.segment.AgeSegmentCache;
+import com.jong.h2_db.shard.CustomerShards;
+import com.jong.h2_db.support.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -17,99 +44,231 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomerService {
 
-    private final CustomerRepository customerRepository;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    private static final Comparator<CustomerSummary> BY_ID = Comparator.comparing(CustomerSummary::id);
+
+    private static final CachedQuery WITH_ADDRESS = CachedQuery.of("customer-with-address", QueryTag.CUSTOMER_ADDRESS);
+    private static final CachedQuery BORN_ON_OR_BEFORE = CachedQuery.of("customer-born-on-or-before",
+            QueryTag.CUSTOMER_BIRTH_DATE);
+
+    // 고객 조회/저장은 샤드 라우팅을 거친다 (샤딩을 끄면 CustomerRepository 로 그대로 위임)
+    private final CustomerShards customerShards;
+    private final EntityCounterRegistry entityCounterRegistry;
+    private final EmailDomainAnalytics emailDomainAnalytics;
+    private final RegistrationRollupService registrationRollupService;
+    private final AgeSegmentCache ageSegmentCache;
+    private final CustomerNameIndex customerNameIndex;
+    private final QueryResultCache queryResultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Customer createCustomer(String name, String email, String phone, LocalDate dateOfBirth, String address) {
         log.debug("Creating new customer: {}", email);
-        if (customerRepository.findByEmail(email).isPresent()) {
-            throw new RuntimeException("이미 등록된 이메일입니다: " + email);
-        }
-
-        Customer customer = new Customer(name, email, phone, dateOfBirth, address);
-        return customerRepository.save(customer);
+        Customer saved = customerShards.onShard(customerShards.shardForEmail(email), false, repository -> {
+            if (repository.findByEmail(email).isPresent()) {
+                throw new RuntimeException("이미 등록된 이메일입니다: " + email);
+            }
+            return repository.save(new Customer(name, email, phone, dateOfBirth, address));
+        });
+        // 롤업은 홈 샤드에 있으므로 샤딩 시에는 고객 저장과 별도 트랜잭션
+        registrationRollupService.recordRegistration(saved.getCreatedAt().toLocalDate());
+        eventPublisher.publishEvent(CustomerChangedEvent.of(saved.getId(), CustomerChangeType.CREATED));
+        return saved;
     }
 
     @Transactional(readOnly = true)
     public Optional<Customer> getCustomerById(Long id) {
         log.debug("Finding customer by id: {}", id);
-        return customerRepository.findById(id);
+        return customerShards.findById(id);
     }
 
     @Transactional(readOnly = true)
     public Optional<Customer> getCustomerByEmail(String email) {
         log.debug("Finding customer by email: {}", email);
-        return customerRepository.findByEmail(email);
+        return customerShards.findByEmail(email);
     }
 
     @Transactional(readOnly = true)
     public List<Customer> getAllActiveCustomers() {
         log.debug("Finding all active customers");
-        return customerRepository.findByIsActiveTrue();
+        return customerShards.fanOut(CustomerRepository::findByIsActiveTrue);
     }
 
     @Transactional(readOnly = true)
     public List<Customer> searchCustomersByName(String name) {
         log.debug("Searching customers by name: {}", name);
-        return customerRepository.findByNameContainingIgnoreCase(name);
+        return customerShards.fanOut(repository -> repository.findByNameContainingIgnoreCase(name));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerSummary> getActiveCustomerSummaries() {
+        log.debug("Finding active customer summaries");
+        return customerShards.fanOut(CustomerRepository::findActiveSummaries, BY_ID);
+    }
+
+    /**
+     * 이름 검색 (초성 접두사 / 글자 포함). 색인이 준비되기 전에는 LIKE 조회로 대체
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerSummary> searchCustomers(String query, int limit) {
+        log.debug("Searching customers: {} (limit {})", query, limit);
+        if (limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_SEARCH_LIMIT + " 사이여야 합니다: " + limit);
+        }
+        if (!customerNameIndex.isReady()) {
+            return customerShards.fanOut(repository -> repository.findSummariesByNameContaining(LikePatterns.escape(query)), BY_ID).stream()
+                    .limit(limit)
+                    .toList();
+        }
+
+        List<Long> ids = customerNameIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CustomerSummary> summaries = customerShards.fanOut(repository -> repository.findSummariesByIdIn(ids))
+                .stream()
+                .collect(Collectors.toMap(CustomerSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerSummary> searchCustomerSummariesByName(String name) {
+        log.debug("Searching customer summaries by name: {}", name);
+        return customerShards.fanOut(repository -> repository.findSummariesByNameContaining(LikePatterns.escape(name)), BY_ID);
     }
 
     @Transactional(readOnly = true)
     public List<Customer> getCustomersOlderThan(int age) {
         log.debug("Finding customers older than: {}", age);
-        return customerRepository.findCustomersOlderThan(age);
+        LocalDate bornOnOrBefore = AgeBracket.atLeast(age).bornOnOrBefore(LocalDate.now());
+        // 나이가 아닌 기준 생년월일을 키로 사용 (날짜가 바뀌면 자연히 다른 키)
+        return findAllInOrder(queryResultCache.get(BORN_ON_OR_BEFORE, List.of(bornOnOrBefore),
+                () -> customerShards.fanOut(repository -> repository.findIdsBornOnOrBefore(bornOnOrBefore),
+                        Comparator.naturalOrder())));
+    }
+
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않는다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<CustomerSummary> getActiveCustomersInAgeBracket(int minAge, int maxAge) {
+        log.debug("Finding active customers aged {} ~ {}", minAge, maxAge);
+        AgeBracket bracket = new AgeBracket(minAge, maxAge);
+        Optional<List<CustomerSummary>> cached = ageSegmentCache.get(bracket);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long stamp = ageSegmentCache.stamp();
+        LocalDate today = ageSegmentCache.today();
+        List<CustomerSummary> customers = customerShards.fanOut(repository -> repository.findActiveSummariesBornBetween(
+                bracket.bornAfter(today), bracket.bornOnOrBefore(today)), BY_ID);
+        ageSegmentCache.putIfUnchanged(bracket, today, customers, stamp);
+        return customers;
     }
 
     @Transactional(readOnly = true)
     public List<Customer> getCustomersWithAddress() {
         log.debug("Finding customers with address");
-        return customerRepository.findCustomersWithAddress();
+        return findAllInOrder(queryResultCache.get(WITH_ADDRESS, List.of(),
+                () -> customerShards.fanOut(CustomerRepository::findIdsWithAddress, Comparator.naturalOrder())));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<QueryCacheStats> getQueryCacheStatistics() {
+        return queryResultCache.statistics(query -> !query.isProductQuery());
     }
 
     public Customer updateCustomer(Long id, String name, String phone, String address) {
         log.debug("Updating customer: {}", id);
-        Customer customer = customerRepository.findById(id)
+        Customer saved = customerShards.updateById(id, customer -> {
+                    customer.setName(name);
+                    customer.setPhone(phone);
+                    customer.setAddress(address);
+                })
                 .orElseThrow(() -> new RuntimeException("고객을 찾을 수 없습니다: " + id));
-
-        customer.setName(name);
-        customer.setPhone(phone);
-        customer.setAddress(address);
-
-        return customerRepository.save(customer);
+        eventPublisher.publishEvent(CustomerChangedEvent.of(id, CustomerChangeType.UPDATED));
+        return saved;
     }
 
     public Customer deactivateCustomer(Long id) {
         log.debug("Deactivating customer: {}", id);
-        Customer customer = customerRepository.findById(id)
+        Customer saved = customerShards.updateById(id, customer -> {
+                    String previous = EntityCounterListener.customerStatus(customer.getIsActive());
+                    customer.deactivate();
+                    entityCounterRegistry.recordTransitionAfterCommit(Customer.class, previous, EntityCounterListener.INACTIVE);
+                })
                 .orElseThrow(() -> new RuntimeException("고객을 찾을 수 없습니다: " + id));
-
-        customer.deactivate();
-        return customerRepository.save(customer);
+        eventPublisher.publishEvent(CustomerChangedEvent.of(id, CustomerChangeType.STATUS_CHANGED));
+        return saved;
     }
 
     public Customer activateCustomer(Long id) {
         log.debug("Activating customer: {}", id);
-        Customer customer = customerRepository.findById(id)
+        Customer saved = customerShards.updateById(id, customer -> {
+                    String previous = EntityCounterListener.customerStatus(customer.getIsActive());
+                    customer.activate();
+                    entityCounterRegistry.recordTransitionAfterCommit(Customer.class, previous, EntityCounterListener.ACTIVE);
+                })
                 .orElseThrow(() -> new RuntimeException("고객을 찾을 수 없습니다: " + id));
-
-        customer.activate();
-        return customerRepository.save(customer);
+        eventPublisher.publishEvent(CustomerChangedEvent.of(id, CustomerChangeType.STATUS_CHANGED));
+        return saved;
     }
 
-    @Transactional(readOnly = true)
+    // 카운터가 DB 와 맞춰진 뒤에는 메모리 값만 읽음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getTotalCustomerCount() {
         log.debug("Counting total customers");
-        return customerRepository.count();
+        if (entityCounterRegistry.isReconciled(Customer.class)) {
+            return entityCounterRegistry.total(Customer.class);
+        }
+        return customerShards.count();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getActiveCustomerCount() {
         log.debug("Counting active customers");
-        return customerRepository.findByIsActiveTrue().size();
+        if (entityCounterRegistry.isReconciled(Customer.class)) {
+            return entityCounterRegistry.count(Customer.class, EntityCounterListener.ACTIVE);
+        }
+        return customerShards.countByIsActiveTrue();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EntityCounts getCustomerCounts() {
+        log.debug("Getting customer counts");
+        return entityCounterRegistry.counts(Customer.class);
     }
 
     @Transactional(readOnly = true)
-    public List<Object[]> getMonthlyRegistrationStats() {
+    public List<MonthlyRegistrationCount> getMonthlyRegistrationStats(YearMonth from, YearMonth to) {
         log.debug("Getting monthly registration statistics");
-        return customerRepository.getMonthlyRegistrationStats();
+        return registrationRollupService.getMonthlyCounts(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRegistrationCount> getDailyRegistrationStats(LocalDate from, LocalDate to) {
+        log.debug("Getting daily registration statistics");
+        return registrationRollupService.getDailyCounts(from, to);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EmailDomainStats getEmailDomainStats(int limit, boolean exact) {
+        log.debug("Getting top {} email domains (exact: {})", limit, exact);
+        if (limit <= 0 || limit > EmailDomainAnalytics.TOP_CAPACITY) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + EmailDomainAnalytics.TOP_CAPACITY + " 사이여야 합니다: " + limit);
+        }
+        return exact ? emailDomainAnalytics.exactTopDomains(limit) : emailDomainAnalytics.topDomains(limit);
+    }
+
+    // 조회 결과 캐시의 ID 순서대로 한 번의 IN 쿼리로 조회
+    private List<Customer> findAllInOrder(List<Long> ids) {
+        Map<Long, Customer> byId = customerShards.findAllById(ids).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.jong.h2_db.service;
+
+import com.jong.h2_db.counter.EntityCounterRegistry;
+import com.jong.h2_db.dto.BulkItemResult;
+import com.jong.h2_db.dto.BulkPriceUpdate;
+import com.jong.h2_db.dto.BulkStatementResult;
+import com.jong.h2_db.dto.BulkStatusUpdate;
+import com.jong.h2_db.dto.BulkStockUpdate;
+import com.jong.h2_db.dto.BulkUpdateResult;
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.model.ProductStatus;
+import com.jong.h2_db.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 변경
+ * 요청을 청크 단위 트랜잭션으로 나누고, 청크마다 한 번의 IN 조회 후 flush 시 JDBC 배치 UPDATE 로 반영한다.
+ */
+@Slf4j
+@Service
+public class ProductBulkService {
+
+    public static final int CHUNK_SIZE = 500;
+    public static final int MAX_BULK_ITEMS = 50_000;
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCounterRegistry entityCounterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductBulkService(ProductRepository productRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              EntityCounterRegistry entityCounterRegistry,
+                              PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityCounterRegistry = entityCounterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkUpdateResult updateStock(List<BulkStockUpdate> updates) {
+        log.debug("Bulk updating stock for {} products", updates.size());
+        return applyInChunks(updates, BulkStockUpdate::id, (product, update) -> {
+            if (update.stockQuantity() == null || update.stockQuantity() < 0) {
+                throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다");
+            }
+            product.setStockQuantity(update.stockQuantity());
+        }, ProductChangeType.STOCK_CHANGED);
+    }
+
+    public BulkUpdateResult updatePrice(List<BulkPriceUpdate> updates) {
+        log.debug("Bulk updating price for {} products", updates.size());
+        return applyInChunks(updates, BulkPriceUpdate::id, (product, update) -> {
+            if (update.price() == null || update.price().compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException("가격은 0 이상이어야 합니다");
+            }
+            product.setPrice(update.price());
+        }, ProductChangeType.PRICE_CHANGED);
+    }
+
+    public BulkUpdateResult updateStatus(List<BulkStatusUpdate> updates) {
+        log.debug("Bulk updating status for {} products", updates.size());
+        return applyInChunks(updates, BulkStatusUpdate::id, (product, update) -> {
+            if (update.status() == null) {
+                throw new IllegalArgumentException("상태는 필수입니다");
+            }
+            entityCounterRegistry.recordTransitionAfterCommit(Product.class, product.getStatus().name(),
+                    update.status().name());
+            product.setStatus(update.status());
+        }, ProductChangeType.STATUS_CHANGED);
+    }
+
+    /**
+     * 재고가 0 인 활성 상품을 한 번의 UPDATE 문으로 비활성화
+     */
+    @Transactional
+    public BulkStatementResult deactivateOutOfStock() {
+        log.debug("Deactivating all out of stock products");
+        int affected = productRepository.updateStatusOfOutOfStock(ProductStatus.ACTIVE, ProductStatus.INACTIVE,
+                LocalDateTime.now());
+        if (affected > 0) {
+            eventPublisher.publishEvent(ProductChangedEvent.bulk(ProductChangeType.STATUS_CHANGED));
+        }
+        return new BulkStatementResult("deactivate-out-of-stock", affected);
+    }
+
+    private <T> BulkUpdateResult applyInChunks(List<T> updates, Function<T, Long> idOf,
+                                               BiConsumer<Product, T> change, ProductChangeType changeType) {
+        if (updates.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 상품은 최대 " + MAX_BULK_ITEMS + "개입니다");
+        }
+        if (updates.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("변경 목록에 null 항목이 포함되어 있습니다");
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(updates.size());
+        for (int from = 0; from < updates.size(); from += CHUNK_SIZE) {
+            List<T> chunk = updates.subList(from, Math.min(from + CHUNK_SIZE, updates.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> applyChunk(chunk, idOf, change, changeType)));
+            } catch (RuntimeException e) {
+                // 커밋 시점 실패 (낙관적 락 충돌 등) 는 청크 전체가 롤백된다
+                log.warn("Bulk chunk starting at {} failed: {}", from, e.getMessage());
+                for (T update : chunk) {
+                    results.add(BulkItemResult.failed(idOf.apply(update), "청크 처리 실패: " + e.getMessage()));
+                }
+            }
+        }
+        return BulkUpdateResult.of(results);
+    }
+
+    private <T> List<BulkItemResult> applyChunk(List<T> chunk, Function<T, Long> idOf,
+                                                BiConsumer<Product, T> change, ProductChangeType changeType) {
+        List<Long> ids = chunk.stream().map(idOf).filter(Objects::nonNull).distinct().toList();
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        for (T update : chunk) {
+            Long id = idOf.apply(update);
+            Product product = products.get(id);
+            if (product == null) {
+                results.add(BulkItemResult.failed(id, "상품을 찾을 수 없습니다: " + id));
+                continue;
+            }
+            try {
+                change.accept(product, update);
+                eventPublisher.publishEvent(ProductChangedEvent.of(id, changeType));
+                results.add(BulkItemResult.succeeded(id));
+            } catch (IllegalArgumentException e) {
+                results.add(BulkItemResult.failed(id, e.getMessage()));
+            }
+        }
+
+        // 변경된 엔티티를 JDBC 배치 UPDATE 로 내보내고 1차 캐시를 비움
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+}
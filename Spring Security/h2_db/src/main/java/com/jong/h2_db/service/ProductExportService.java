@@ -0,0 +1,59 @@
+package com.jong.h2_db.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private static final byte[] NEWLINE = {'\n'};
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 전체 상품을 NDJSON 으로 출력 스트림에 바로 기록
+     * 한 건씩 직렬화 후 detach 하므로 영속성 컨텍스트가 카탈로그 크기만큼 커지지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public long exportProducts(OutputStream out) throws IOException {
+        log.debug("Exporting product catalog as NDJSON");
+        long exported = 0;
+        try (Stream<Product> products = productRepository.streamAllByOrderById()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(product));
+                out.write(NEWLINE);
+                entityManager.detach(product);
+
+                exported++;
+                // 첫 행은 즉시 내보내고 이후에는 일정 간격으로 flush
+                if (exported == 1 || exported % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        log.debug("Exported {} products", exported);
+        return exported;
+    }
+}
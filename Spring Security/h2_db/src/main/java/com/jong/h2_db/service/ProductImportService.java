@@ -0,0 +1,274 @@
+package com.jong.h2_db.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jong.h2_db.dto.ImportRowError;
+import com.jong.h2_db.dto.ProductImportResult;
+import com.jong.h2_db.dto.ProductImportRow;
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.repository.ProductRepository;
+import com.jong.h2_db.support.CsvLineParser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 가져오기 (CSV / NDJSON)
+ * 입력을 한 줄씩 읽어 청크로 모으고, 청크 안에서는 파싱과 Bean Validation 을 병렬로 수행한 뒤
+ * 청크마다 한 트랜잭션으로 saveAll → flush 해서 JDBC 배치 INSERT 로 저장한다.
+ * 파일 전체를 메모리에 올리지 않으므로 행 수와 무관하게 청크 크기만큼의 메모리만 사용한다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "stockQuantity");
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductImportService(ProductRepository productRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ProductImportResult importProducts(InputStream input, Format format) {
+        long startedAt = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            Map<String, Integer> csvHeader = null;
+            List<RawLine> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    continue;
+                }
+                chunk.add(new RawLine(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, format, csvHeader, progress);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, format, csvHeader, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 입력을 읽을 수 없습니다", e);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : progress.imported * 1_000_000_000.0 / elapsedNanos;
+        log.info("Imported {} of {} products ({} rejected) in {} ms - {} rows/sec",
+                progress.imported, progress.total, progress.rejected, elapsedNanos / 1_000_000,
+                String.format(Locale.ROOT, "%.1f", rowsPerSecond));
+
+        return new ProductImportResult(format.name(), progress.total, progress.imported, progress.rejected,
+                progress.chunks, elapsedNanos / 1_000_000, rowsPerSecond, progress.errors);
+    }
+
+    private void importChunk(List<RawLine> chunk, Format format, Map<String, Integer> csvHeader,
+                             ImportProgress progress) {
+        // 파싱/검증은 행끼리 독립적이라 병렬로 처리 (순서는 유지됨)
+        List<ParsedLine> parsed = chunk.parallelStream()
+                .map(raw -> parse(raw, format, csvHeader))
+                .toList();
+
+        List<Product> products = new ArrayList<>(parsed.size());
+        for (ParsedLine line : parsed) {
+            if (line.product() != null) {
+                products.add(line.product());
+            } else {
+                progress.reject(line.line(), line.error());
+            }
+        }
+        progress.total += chunk.size();
+        progress.chunks++;
+
+        if (products.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                productRepository.saveAll(products);
+                // ID 는 persist 시점에 애플리케이션이 발급하므로 INSERT 가 flush 까지 미뤄지고 hibernate.jdbc.batch_size 단위로 묶인다.
+                // clear 하지 않는 이유: 커밋 후 리스너(검색 인덱스 등)가 1차 캐시에서 바로 읽도록 (트랜잭션 종료 시 함께 정리됨)
+                entityManager.flush();
+                for (Product product : products) {
+                    eventPublisher.publishEvent(ProductChangedEvent.of(product.getId(), ProductChangeType.CREATED));
+                }
+            });
+            progress.imported += products.size();
+        } catch (RuntimeException e) {
+            log.warn("Import chunk ending at line {} failed: {}", chunk.get(chunk.size() - 1).line(), e.getMessage());
+            for (ParsedLine line : parsed) {
+                if (line.product() != null) {
+                    progress.reject(line.line(), "청크 저장 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private ParsedLine parse(RawLine raw, Format format, Map<String, Integer> csvHeader) {
+        try {
+            ProductImportRow row = format == Format.CSV ? parseCsvRow(raw.text(), csvHeader) : parseJsonRow(raw.text());
+            Product product = new Product(row.name(), row.description(), row.price(), row.stockQuantity());
+
+            Set<ConstraintViolation<Product>> violations = validator.validate(product);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                return ParsedLine.rejected(raw.line(), message);
+            }
+            return ParsedLine.accepted(raw.line(), product);
+        } catch (IllegalArgumentException e) {
+            return ParsedLine.rejected(raw.line(), e.getMessage());
+        }
+    }
+
+    private ProductImportRow parseJsonRow(String text) {
+        try {
+            return objectMapper.readValue(text, ProductImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private ProductImportRow parseCsvRow(String text, Map<String, Integer> header) {
+        List<String> fields = CsvLineParser.parse(text);
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException("열 개수가 헤더와 다릅니다: " + fields.size());
+        }
+        String price = field(fields, header, "price");
+        String stockQuantity = field(fields, header, "stockQuantity");
+        try {
+            return new ProductImportRow(
+                    field(fields, header, "name"),
+                    field(fields, header, "description"),
+                    price == null ? null : new BigDecimal(price),
+                    stockQuantity == null ? null : Integer.valueOf(stockQuantity));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다: price=" + price + ", stockQuantity=" + stockQuantity);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        // BOM 이 붙은 파일도 허용
+        String text = line.startsWith("\uFEFF") ? line.substring(1) : line;
+        List<String> columns = CsvLineParser.parse(text);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("알 수 없는 CSV 열입니다: " + column);
+            }
+            header.put(column, i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("price") || !header.containsKey("stockQuantity")) {
+            throw new IllegalArgumentException("CSV 헤더에는 name, price, stockQuantity 열이 필요합니다");
+        }
+        return header;
+    }
+
+    private record RawLine(long line, String text) {
+    }
+
+    private record ParsedLine(long line, Product product, String error) {
+
+        static ParsedLine accepted(long line, Product product) {
+            return new ParsedLine(line, product, null);
+        }
+
+        static ParsedLine rejected(long line, String error) {
+            return new ParsedLine(line, null, error);
+        }
+    }
+
+    private static class ImportProgress {
+        private long total;
+        private long imported;
+        private long rejected;
+        private int chunks;
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(line, message));
+            }
+        }
+    }
+}
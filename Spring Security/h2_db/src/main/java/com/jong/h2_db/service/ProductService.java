@@ -1,16 +1,62 @@
 package com.jong.h2_db.service;
 
+import com.jong.h2_db.cache.CachedQuery;
+import com.jong.h2_db.cache.ProductCache;
+import com.jong.h2_db.cache.ProductCatalogVersion;
+import com.jong.h2_db.cache.QueryResultCache;
+import com.jong.h2_db.cache.QueryTag;
+import com.jong.h2_db.counter.EntityCounterRegistry;
+import com.jong.h2_db.dto.CacheStatistics;
+import com.jong.h2_db.dto.CursorPage;
+import com.jong.h2_db.dto.EntityCounts;
+import com.jong.h2_db.dto.ProductBatchResult;
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.dto.ProductChangePage;
+import com.jong.h2_db.dto.ProductCursor;
+import com.jong.h2_db.dto.ProductFields;
+import com.jong.h2_db.dto.ProductSummary;
+import com.jong.h2_db.dto.QueryCacheStats;
+import com.jong.h2_db.dto.ResourceVersion;
+import com.jong.h2_db.dto.SingleFlightStats;
+import com.jong.h2_db.dto.StockReservation;
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.exception.InsufficientStockException;
+import com.jong.h2_db.exception.ProductNotFoundException;
+import com.jong.h2_db.event.ProductChangedEvent;
 import com.jong.h2_db.model.Product;
 import com.jong.h2_db.model.ProductStatus;
+import com.jong.h2_db.outbox.ProductChangeFeed;
 import com.jong.h2_db.repository.ProductRepository;
+import com.jong.h2_db.repository.ProductSpecifications;
+import com.jong.h2_db.search.ProductSearchIndex;
+import com.jong.h2_db.snapshot.CatalogSnapshot;
+import com.jong.h2_db.snapshot.CatalogSnapshotHolder;
+import com.jong.h2_db.support.LikePatterns;
+import com.jong.h2_db.support.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -18,19 +64,132 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 50;
+    public static final int LOW_STOCK_THRESHOLD = 10;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_CHANGE_PAGE_SIZE = 1000;
+    // 페이지 없는 목록 조회의 최대 건수 (더 필요하면 size= 키셋 페이지를 사용)
+    public static final int MAX_LIST_SIZE = 1000;
+    // 대량 로딩 시 IN 목록 크기 (hibernate.jdbc.batch_size 와 같게)
+    private static final int LOAD_CHUNK_SIZE = 50;
+
+    // 조회 결과 캐시 대상 (색인/스냅샷을 쓸 수 없을 때의 DB 조회)
+    private static final CachedQuery NAME_SEARCH = CachedQuery.of("product-name-search", QueryTag.PRODUCT_NAME);
+    private static final CachedQuery PRICE_RANGE = CachedQuery.of("product-price-range", QueryTag.PRODUCT_PRICE);
+    private static final CachedQuery LOW_STOCK = CachedQuery.of("product-low-stock",
+            QueryTag.PRODUCT_STOCK, QueryTag.PRODUCT_STATUS);
+
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final QueryResultCache queryResultCache;
+    private final ProductCatalogVersion productCatalogVersion;
+    private final ProductSearchIndex productSearchIndex;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final EntityCounterRegistry entityCounterRegistry;
+    private final ProductChangeFeed productChangeFeed;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 동시에 들어온 같은 조회는 한 번만 실행
+    private final SingleFlight<Long, Optional<Product>> productLookups = new SingleFlight<>("product-by-id");
+    private final SingleFlight<String, List<Product>> productSearches = new SingleFlight<>("product-search");
 
     public Product createProduct(String name, String description, BigDecimal price, Integer stockQuantity) {
         log.debug("Creating new product: {}", name);
         Product product = new Product(name, description, price, stockQuantity);
         product.setStatus(ProductStatus.ACTIVE);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId(), ProductChangeType.CREATED));
+        return saved;
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않는다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<Product> getProductById(Long id) {
         log.debug("Finding product by id: {}", id);
-        return productRepository.findById(id);
+        Optional<Product> cached = productCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        return productLookups.execute(id, () -> {
+            long stamp = productCache.stamp();
+            Optional<Product> product = productRepository.findById(id);
+            product.ifPresent(p -> productCache.putIfUnchanged(p, stamp));
+            return product;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getProductVersion(Long id) {
+        return productRepository.findUpdatedAtById(id)
+                .map(updatedAt -> ResourceVersion.ofProduct(id, updatedAt));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResourceVersion getCatalogVersion() {
+        return productCatalogVersion.current();
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회 (캐시에 없는 ID 만 하나의 IN 쿼리로 조회)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ProductBatchResult getProductsByIds(List<Long> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("상품 ID 목록에 null 이 포함되어 있습니다");
+        }
+        LinkedHashSet<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다");
+        }
+        log.debug("Finding {} products by ids", requested.size());
+
+        Map<Long, Product> found = findAllCached(requested);
+        List<Product> products = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            Product product = found.get(id);
+            if (product != null) {
+                products.add(product);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ProductBatchResult(products, missingIds);
+    }
+
+    /**
+     * 변경 피드 조회 (after = 마지막으로 처리한 sequence, 0 이면 처음부터)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ProductChangePage getProductChanges(long after, int limit) {
+        log.debug("Reading product changes after {} (limit {})", after, limit);
+        if (after < 0) {
+            throw new IllegalArgumentException("after 는 0 이상이어야 합니다: " + after);
+        }
+        if (limit <= 0 || limit > MAX_CHANGE_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_CHANGE_PAGE_SIZE + " 사이여야 합니다: " + limit);
+        }
+        List<ProductChange> changes = productChangeFeed.read(after, limit);
+        long next = changes.isEmpty() ? after : changes.get(changes.size() - 1).sequence();
+        return new ProductChangePage(changes, next, productChangeFeed.head());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CacheStatistics getProductCacheStatistics() {
+        return productCache.statistics();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<QueryCacheStats> getQueryCacheStatistics() {
+        return queryResultCache.statistics(CachedQuery::isProductQuery);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<SingleFlightStats> getSingleFlightStatistics() {
+        return List.of(productLookups.stats(), productSearches.stats());
     }
 
     @Transactional(readOnly = true)
@@ -39,78 +198,345 @@ public class ProductService {
         return productRepository.findByStatus(ProductStatus.ACTIVE);
     }
 
-    @Transactional(readOnly = true)
-    public List<Product> searchProductsByName(String name) {
-        log.debug("Searching products by name: {}", name);
-        return productRepository.findByNameContainingIgnoreCase(name);
+    // 대기 중인 호출이 커넥션을 잡고 있지 않도록 트랜잭션을 새로 열지 않는다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<Product> searchProductsByName(String name, int limit) {
+        log.debug("Searching products by name: {} (limit {})", name, limit);
+        return productSearches.execute(name + "|" + limit, () -> {
+            if (!productSearchIndex.isReady()) {
+                return findAllInOrder(queryResultCache.get(NAME_SEARCH,
+                        List.of(ProductSearchIndex.normalize(name), limit),
+                        () -> limit <= 0 ? List.of() : productRepository.findIdsByNameContaining(
+                                LikePatterns.escape(ProductSearchIndex.normalize(name)), PageRequest.ofSize(limit))));
+            }
+            return findAllInOrder(productSearchIndex.search(name, limit));
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Product> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         log.debug("Finding products in price range: {} - {}", minPrice, maxPrice);
-        return productRepository.findByPriceBetween(minPrice, maxPrice);
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotHolder.fresh();
+        if (snapshot.isPresent()) {
+            return findAllInOrder(snapshot.get().idsInPriceRange(
+                    CatalogSnapshot.toCents(minPrice, RoundingMode.CEILING),
+                    CatalogSnapshot.toCents(maxPrice, RoundingMode.FLOOR), MAX_LIST_SIZE));
+        }
+        // 스냅샷 재생성 전(쓰기 직후)에는 같은 범위 조회가 반복되므로 결과 ID 를 캐시
+        return findAllInOrder(queryResultCache.get(PRICE_RANGE,
+                List.of(minPrice.stripTrailingZeros(), maxPrice.stripTrailingZeros()),
+                () -> productRepository.findIdsByPriceBetween(minPrice, maxPrice, PageRequest.ofSize(MAX_LIST_SIZE))));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Product> getLowStockProducts() {
         log.debug("Finding low stock products");
-        return productRepository.findLowStockProducts();
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotHolder.fresh();
+        if (snapshot.isPresent()) {
+            return findAllInOrder(snapshot.get().activeIdsWithStockBelow(LOW_STOCK_THRESHOLD, MAX_LIST_SIZE));
+        }
+        return findAllInOrder(queryResultCache.get(LOW_STOCK, List.of(),
+                () -> productRepository.findLowStockIds(PageRequest.ofSize(MAX_LIST_SIZE))));
     }
 
     @Transactional(readOnly = true)
     public List<Product> getOutOfStockProducts() {
         log.debug("Finding out of stock products");
-        return productRepository.findOutOfStockProducts();
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotHolder.fresh();
+        if (snapshot.isPresent()) {
+            return findAllInOrder(snapshot.get().outOfStockIds(MAX_LIST_SIZE));
+        }
+        return productRepository.findOutOfStockProducts(PageRequest.ofSize(MAX_LIST_SIZE));
     }
 
     public Product updateProduct(Long id, String name, String description, BigDecimal price, Integer stockQuantity) {
         log.debug("Updating product: {}", id);
         Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> new ProductNotFoundException(id));
 
         product.setName(name);
         product.setDescription(description);
         product.setPrice(price);
         product.setStockQuantity(stockQuantity);
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.UPDATED));
+        return saved;
     }
 
     public Product updateStock(Long id, Integer newStock) {
         log.debug("Updating stock for product {}: {}", id, newStock);
         Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> new ProductNotFoundException(id));
 
         product.setStockQuantity(newStock);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.STOCK_CHANGED));
+        return saved;
+    }
+
+    /**
+     * 재고 예약 (조건부 UPDATE 한 번으로 차감, 동시 요청에서도 재고가 음수가 되지 않음)
+     */
+    public StockReservation reserveStock(Long id, int quantity) {
+        log.debug("Reserving {} units of product {}", quantity, id);
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다: " + quantity);
+        }
+
+        int updated = productRepository.reserveStock(id, quantity, LocalDateTime.now());
+        if (updated == 0) {
+            if (!productRepository.existsById(id)) {
+                throw new ProductNotFoundException(id);
+            }
+            throw new InsufficientStockException(id, quantity);
+        }
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.STOCK_CHANGED));
+        return new StockReservation(id, quantity);
     }
 
     public Product deactivateProduct(Long id) {
         log.debug("Deactivating product: {}", id);
         Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> new ProductNotFoundException(id));
 
+        ProductStatus previous = product.getStatus();
         product.setStatus(ProductStatus.INACTIVE);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        entityCounterRegistry.recordTransitionAfterCommit(Product.class, previous.name(), ProductStatus.INACTIVE.name());
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.STATUS_CHANGED));
+        return saved;
     }
 
     public void deleteProduct(Long id) {
         log.debug("Deleting product: {}", id);
         if (!productRepository.existsById(id)) {
-            throw new RuntimeException("상품을 찾을 수 없습니다: " + id);
+            throw new ProductNotFoundException(id);
         }
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.DELETED));
     }
 
-    @Transactional(readOnly = true)
+    // 카운터가 DB 와 맞춰진 뒤에는 메모리 값만 읽음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getActiveProductCount() {
         log.debug("Counting active products");
+        if (entityCounterRegistry.isReconciled(Product.class)) {
+            return entityCounterRegistry.count(Product.class, ProductStatus.ACTIVE.name());
+        }
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotHolder.fresh();
+        if (snapshot.isPresent()) {
+            return snapshot.get().countByStatus(ProductStatus.ACTIVE);
+        }
         return productRepository.countByStatus(ProductStatus.ACTIVE);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EntityCounts getProductCounts() {
+        log.debug("Getting product counts");
+        return entityCounterRegistry.counts(Product.class);
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getActiveProductsUnderPrice(BigDecimal maxPrice) {
         log.debug("Finding active products under price: {}", maxPrice);
-        return productRepository.findActiveProductsUnderPrice(maxPrice);
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotHolder.fresh();
+        if (snapshot.isPresent()) {
+            return findAllInOrder(snapshot.get().activeIdsUnderPrice(
+                    CatalogSnapshot.toCents(maxPrice, RoundingMode.CEILING), MAX_LIST_SIZE));
+        }
+        return productRepository.findActiveProductsUnderPrice(maxPrice, PageRequest.ofSize(MAX_LIST_SIZE));
+    }
+
+    // DTO 프로젝션 읽기 경로
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getActiveProductSummaries() {
+        log.debug("Finding active product summaries");
+        return productRepository.findSummariesByStatus(ProductStatus.ACTIVE);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getProductSummariesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        log.debug("Finding product summaries in price range: {} - {}", minPrice, maxPrice);
+        return productRepository.findSummariesByPriceBetween(minPrice, maxPrice);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getLowStockProductSummaries() {
+        log.debug("Finding low stock product summaries");
+        return productRepository.findLowStockSummaries();
+    }
+
+    // 필드 선택 조회 (요청한 컬럼만 SELECT)
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getProductFields(Long id, ProductFields fields) {
+        log.debug("Finding product {} with fields {}", id, fields.names());
+        return productRepository.findFields(fields, ProductSpecifications.idEquals(id), Sort.unsorted())
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActiveProductFields(ProductFields fields) {
+        log.debug("Finding active products with fields {}", fields.names());
+        return productRepository.findFields(fields,
+                ProductSpecifications.hasStatus(ProductStatus.ACTIVE), Sort.by("id"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchProductFields(String name, int limit, ProductFields fields) {
+        log.debug("Searching products by name: {} with fields {}", name, fields.names());
+        if (!productSearchIndex.isReady()) {
+            // 색인 준비 전에는 LIKE 조건과 LIMIT 까지 DB 에 넘겨 요청한 컬럼만 조회
+            return limit <= 0 ? List.of() : productRepository.findFields(fields,
+                    ProductSpecifications.nameContainsIgnoreCase(name), Sort.by("id"), limit);
+        }
+        List<Long> ids = productSearchIndex.search(name, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 검색 순위대로 재배열하기 위해 id 를 함께 조회한 뒤 요청하지 않았다면 제거
+        Map<Long, Map<String, Object>> byId = productRepository
+                .findFields(fields.withId(), ProductSpecifications.idIn(ids), Sort.unsorted())
+                .stream()
+                .collect(Collectors.toMap(row -> (Long) row.get("id"), Function.identity()));
+        List<Map<String, Object>> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Map<String, Object> row = byId.get(id);
+            if (row == null) {
+                continue;
+            }
+            if (!fields.contains("id")) {
+                row.remove("id");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getProductFieldsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
+                                                                  ProductFields fields) {
+        log.debug("Finding products in price range: {} - {} with fields {}", minPrice, maxPrice, fields.names());
+        return productRepository.findFields(fields,
+                ProductSpecifications.priceBetween(minPrice, maxPrice), Sort.by("price", "id"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getLowStockProductFields(ProductFields fields) {
+        log.debug("Finding low stock products with fields {}", fields.names());
+        return productRepository.findFields(fields,
+                ProductSpecifications.stockBelow(LOW_STOCK_THRESHOLD)
+                        .and(ProductSpecifications.hasStatus(ProductStatus.ACTIVE)),
+                Sort.by("id"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getOutOfStockProductFields(ProductFields fields) {
+        log.debug("Finding out of stock products with fields {}", fields.names());
+        return productRepository.findFields(fields, ProductSpecifications.outOfStock(), Sort.by("id"));
+    }
+
+    // 키셋 페이지네이션
+    @Transactional(readOnly = true)
+    public CursorPage<Product> getActiveProductsPage(String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        log.debug("Finding active products after id {} (size {})", after.id(), size);
+        int pageSize = normalizePageSize(size);
+        List<Product> fetched = productRepository.findByStatusAfter(ProductStatus.ACTIVE, after.id(), limitOf(pageSize));
+        return CursorPage.of(fetched, pageSize, ProductCursor::afterId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Product> searchProductsByNamePage(String name, String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        log.debug("Searching products by name: {} after id {} (size {})", name, after.id(), size);
+        int pageSize = normalizePageSize(size);
+        List<Product> fetched = productRepository.findByNameContainingAfter(LikePatterns.escape(name), after.id(),
+                limitOf(pageSize));
+        return CursorPage.of(fetched, pageSize, ProductCursor::afterId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Product> getProductsByPriceRangePage(BigDecimal minPrice, BigDecimal maxPrice,
+                                                           String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        if (!after.equals(ProductCursor.START) && !after.hasPrice()) {
+            throw new IllegalArgumentException("가격 범위 조회에는 (price, id) 커서가 필요합니다: " + cursor);
+        }
+        BigDecimal lastPrice = after.hasPrice() ? after.price() : minPrice;
+        log.debug("Finding products in price range: {} - {} after ({}, {}) (size {})",
+                minPrice, maxPrice, lastPrice, after.id(), size);
+        int pageSize = normalizePageSize(size);
+        List<Product> fetched = productRepository.findByPriceBetweenAfter(minPrice, maxPrice,
+                lastPrice, after.id(), limitOf(pageSize));
+        return CursorPage.of(fetched, pageSize, ProductCursor::afterPriceAndId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Product> getLowStockProductsPage(String cursor, int size) {
+        ProductCursor after = ProductCursor.decode(cursor);
+        log.debug("Finding low stock products after id {} (size {})", after.id(), size);
+        int pageSize = normalizePageSize(size);
+        List<Product> fetched = productRepository.findLowStockProductsAfter(after.id(), limitOf(pageSize));
+        return CursorPage.of(fetched, pageSize, ProductCursor::afterId);
+    }
+
+    private List<Product> findAllInOrder(long[] ids) {
+        return findAllInOrder(Arrays.stream(ids).boxed().toList());
+    }
+
+    // 색인/스냅샷/조회 결과 캐시가 정한 순서를 유지한 채 조회
+    // 한 페이지 크기까지는 단건 캐시를 거치고, 그보다 큰 목록은 캐시를 밀어내지 않도록 DB 에서 나눠 읽는다
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = ids.size() <= MAX_PAGE_SIZE ? findAllCached(ids) : findAllInChunks(ids);
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, Product> findAllCached(Collection<Long> ids) {
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            productCache.get(id).ifPresentOrElse(product -> found.put(id, product), () -> misses.add(id));
+        }
+        if (!misses.isEmpty()) {
+            long stamp = productCache.stamp();
+            for (Product product : findAllInChunks(misses).values()) {
+                found.put(product.getId(), product);
+                productCache.putIfUnchanged(product, stamp);
+            }
+        }
+        return found;
+    }
+
+    private Map<Long, Product> findAllInChunks(List<Long> ids) {
+        Map<Long, Product> found = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            for (Product product : productRepository.findAllById(
+                    ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size())))) {
+                found.put(product.getId(), product);
+            }
+        }
+        return found;
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    private Pageable limitOf(int pageSize) {
+        return PageRequest.ofSize(pageSize + 1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.jong.h2_db.service;
+
+import com.jong.h2_db.dto.DailyRegistrationCount;
+import com.jong.h2_db.dto.MonthlyRegistrationCount;
+import com.jong.h2_db.repository.CustomerRepository;
+import com.jong.h2_db.repository.DailyRegistrationRepository;
+import com.jong.h2_db.repository.MonthlyRegistrationRepository;
+import com.jong.h2_db.shard.CustomerShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 고객 가입 수 롤업 (일별 / 월별)
+ * 가입 시 고객 INSERT 와 같은 트랜잭션에서 롤업 행을 증가시키므로, 통계 조회는 고객 테이블 대신 기간 내 몇 행만 읽는다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RegistrationRollupService {
+
+    public static final int MAX_DAILY_WINDOW = 366;
+    public static final int MAX_MONTHLY_WINDOW = 120;
+
+    private final DailyRegistrationRepository dailyRegistrationRepository;
+    private final MonthlyRegistrationRepository monthlyRegistrationRepository;
+    private final CustomerShards customerShards;
+
+    // 호출 측(고객 생성) 트랜잭션에 참여해야 하므로 MANDATORY
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistration(LocalDate date) {
+        recordRegistrations(Map.of(date, 1L));
+    }
+
+    /**
+     * 날짜별로 미리 합산한 가입 수를 반영 (대량 가져오기는 청크마다 한 번 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistrations(Map<LocalDate, Long> registrationsByDate) {
+        Map<YearMonth, Long> byMonth = new TreeMap<>();
+        // 날짜 순으로 갱신해서 동시 트랜잭션 간 행 잠금 순서를 맞춤
+        new TreeMap<>(registrationsByDate).forEach((date, count) -> {
+            dailyRegistrationRepository.increment(date, count);
+            byMonth.merge(YearMonth.from(date), count, Long::sum);
+        });
+        byMonth.forEach((month, count) ->
+                monthlyRegistrationRepository.increment(month.getYear(), month.getMonthValue(), count));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyRegistrationCount> getMonthlyCounts(YearMonth from, YearMonth to) {
+        log.debug("Getting monthly registrations from {} to {}", from, to);
+        if (from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) >= MAX_MONTHLY_WINDOW) {
+            throw new IllegalArgumentException("조회 기간은 1 ~ " + MAX_MONTHLY_WINDOW + "개월이어야 합니다");
+        }
+
+        Map<YearMonth, Long> counts = monthlyRegistrationRepository.findCounts(yearMonthKey(from), yearMonthKey(to))
+                .stream()
+                .collect(Collectors.toMap(c -> YearMonth.of(c.year(), c.month()), MonthlyRegistrationCount::registrations));
+
+        // 가입이 없는 달도 0 으로 채움
+        List<MonthlyRegistrationCount> result = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            result.add(new MonthlyRegistrationCount(month.getYear(), month.getMonthValue(),
+                    counts.getOrDefault(month, 0L)));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRegistrationCount> getDailyCounts(LocalDate from, LocalDate to) {
+        log.debug("Getting daily registrations from {} to {}", from, to);
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAILY_WINDOW) {
+            throw new IllegalArgumentException("조회 기간은 1 ~ " + MAX_DAILY_WINDOW + "일이어야 합니다");
+        }
+
+        Map<LocalDate, DailyRegistrationCount> counts = dailyRegistrationRepository.findCounts(from, to).stream()
+                .collect(Collectors.toMap(DailyRegistrationCount::date, Function.identity()));
+
+        List<DailyRegistrationCount> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            result.add(counts.getOrDefault(date, new DailyRegistrationCount(date, 0)));
+        }
+        return result;
+    }
+
+    /**
+     * 고객 테이블 전체를 한 번 집계해서 롤업을 다시 채운다 (최초 적재 / 감사용 일회성 작업)
+     */
+    public int backfill() {
+        log.info("Backfilling customer registration rollups");
+        dailyRegistrationRepository.deleteAllRows();
+        monthlyRegistrationRepository.deleteAllRows();
+        if (customerShards.isSharded()) {
+            // 고객 테이블이 홈 샤드에만 있지 않으므로 샤드별 날짜 집계를 합쳐서 반영
+            Map<LocalDate, Long> byDate = new TreeMap<>();
+            for (Object[] row : customerShards.fanOut(CustomerRepository::countRegistrationsByDate)) {
+                byDate.merge((LocalDate) row[0], (Long) row[1], Long::sum);
+            }
+            recordRegistrations(byDate);
+            log.info("Registration rollups backfilled from {} shards: {} days",
+                    customerShards.getShardCount(), byDate.size());
+            return byDate.size();
+        }
+        int days = dailyRegistrationRepository.backfillFromCustomers();
+        int months = monthlyRegistrationRepository.backfillFromDaily();
+        log.info("Registration rollups backfilled: {} days, {} months", days, months);
+        return days;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return dailyRegistrationRepository.count() == 0;
+    }
+
+    private static int yearMonthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
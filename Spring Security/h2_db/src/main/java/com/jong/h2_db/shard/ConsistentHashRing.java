@@ -0,0 +1,48 @@
+package com.jong.h2_db.shard;
+
+import com.jong.h2_db.support.Hashing;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 둔 일관 해시 링 (불변)
+ * 샤드를 하나 추가하면 기존 키 중 약 1/(N+1) 만 새 샤드로 옮겨지고 나머지는 그대로 남는다.
+ */
+public final class ConsistentHashRing {
+
+    public static final int VIRTUAL_NODES = 128;
+
+    private final int shards;
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(int shards) {
+        if (shards < 1 || shards > ShardIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 ~ " + ShardIds.MAX_SHARDS + " 사이여야 합니다: " + shards);
+        }
+        this.shards = shards;
+        for (int shard = 0; shard < shards; shard++) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                ring.put(Hashing.hash64("shard-" + shard + "#" + v), shard);
+            }
+        }
+    }
+
+    public int shardFor(String key) {
+        if (shards == 1) {
+            return 0;
+        }
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(Hashing.hash64(key.toLowerCase(Locale.ROOT)));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public ConsistentHashRing withAddedShard() {
+        return new ConsistentHashRing(shards + 1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.jong.h2_db.shard;
+
+import com.jong.h2_db.dto.ShardRebalanceResult;
+import com.jong.h2_db.dto.ShardStats;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드 추가와 고객 재분배
+ * 새 샤드를 링에 넣었을 때 새 샤드로 가야 하는 고객만 기존 샤드에서 옮긴 뒤 링을 교체한다.
+ * 옮기는 동안에는 고객 접근을 막고 (CustomerShards 쓰기 잠금), 배치마다 새 샤드에 복사 → 기존 샤드에서 삭제 순으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "enabled", havingValue = "true")
+public class CustomerRebalancer {
+
+    public static final int BATCH_SIZE = 500;
+
+    private final ShardCluster cluster;
+    private final CustomerShards customerShards;
+
+    public ShardRebalanceResult addShard() {
+        long start = System.currentTimeMillis();
+        AtomicLong moved = new AtomicLong();
+        int added = customerShards.exclusively(() -> {
+            int shard = cluster.addShardPool();
+            ConsistentHashRing next = cluster.getRing().withAddedShard();
+            for (int source = 0; source < shard; source++) {
+                moved.addAndGet(move(source, shard, next));
+            }
+            cluster.switchRing(next);
+            return shard;
+        });
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Added customer shard {}: moved {} customers in {}ms", added, moved.get(), elapsed);
+        return new ShardRebalanceResult(added, moved.get(), elapsed, getShardStats());
+    }
+
+    public List<ShardStats> getShardStats() {
+        List<Long> counts = customerShards.countPerShard();
+        List<ShardStats> stats = new ArrayList<>(counts.size());
+        for (int shard = 0; shard < counts.size(); shard++) {
+            HikariPoolMXBean pool = cluster.getDataSource(shard).getHikariPoolMXBean();
+            stats.add(new ShardStats(shard, counts.get(shard),
+                    pool == null ? 0 : pool.getActiveConnections(),
+                    pool == null ? 0 : pool.getIdleConnections(),
+                    pool == null ? 0 : pool.getTotalConnections()));
+        }
+        return stats;
+    }
+
+    // 새 링 기준으로 target 에 속하게 된 고객을 source 에서 옮긴다
+    private long move(int source, int target, ConsistentHashRing ring) {
+        JdbcTemplate from = new JdbcTemplate(cluster.getDataSource(source));
+        JdbcTemplate to = new JdbcTemplate(cluster.getDataSource(target));
+        List<Long> ids = new ArrayList<>();
+        from.query("SELECT id, email FROM customers", rs -> {
+            if (ring.shardFor(rs.getString("email")) == target) {
+                ids.add(rs.getLong("id"));
+            }
+        });
+
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+            String in = String.join(",", Collections.nCopies(batch.size(), "?"));
+            List<Map<String, Object>> rows = from.queryForList("SELECT * FROM customers WHERE id IN (" + in + ")",
+                    batch.toArray());
+            copy(to, cluster.getDataSource(target), rows);
+            try {
+                transactional(cluster.getDataSource(source)).executeWithoutResult(status ->
+                        from.update("DELETE FROM customers WHERE id IN (" + in + ")", batch.toArray()));
+            } catch (RuntimeException e) {
+                // 원본 삭제에 실패하면 복사본을 지워 같은 고객이 두 샤드에 남지 않게 한다
+                to.update("DELETE FROM customers WHERE id IN (" + in + ")", batch.toArray());
+                throw e;
+            }
+        }
+        log.debug("Moved {} customers from shard {} to shard {}", ids.size(), source, target);
+        return ids.size();
+    }
+
+    private static void copy(JdbcTemplate to, DataSource target, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = List.copyOf(rows.get(0).keySet());
+        String sql = "INSERT INTO customers (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> values = rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList();
+        transactional(target).executeWithoutResult(status -> to.batchUpdate(sql, values));
+    }
+
+    private static TransactionTemplate transactional(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
@@ -0,0 +1,342 @@
+package com.jong.h2_db.shard;
+
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.repository.CustomerRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 고객 저장소 접근을 샤드로 나눈다
+ * <ul>
+ *     <li>이메일 조회/저장: 이메일의 일관 해시로 정한 샤드 하나</li>
+ *     <li>ID 조회: ID 에 담긴 샤드 하나 (재분배로 옮겨진 경우에만 나머지 샤드 확인)</li>
+ *     <li>목록/집계: 모든 샤드에 병렬로 보내고 결과를 합침</li>
+ * </ul>
+ * 샤딩을 켜지 않으면 (app.shards.enabled=false) 모든 호출이 호출 측 트랜잭션 안에서 CustomerRepository 로 그대로 위임된다.
+ * 샤딩 시에는 샤드마다 별도 트랜잭션(REQUIRES_NEW) 으로 실행되므로 여러 샤드에 걸친 작업은 원자적이지 않다.
+ */
+@Component
+public class CustomerShards {
+
+    private final CustomerRepository customerRepository;
+    private final ShardCluster cluster;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    // 일반 접근은 읽기 잠금, 재분배는 쓰기 잠금 (재분배 중에는 고객 접근이 잠시 멈춘다)
+    private final ReadWriteLock rebalanceLock = new ReentrantReadWriteLock();
+
+    public CustomerShards(CustomerRepository customerRepository,
+                          ObjectProvider<ShardCluster> cluster,
+                          PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.cluster = cluster.getIfAvailable();
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isSharded() {
+        return cluster != null;
+    }
+
+    public int getShardCount() {
+        return isSharded() ? cluster.getShardCount() : 1;
+    }
+
+    public int shardForEmail(String email) {
+        return isSharded() ? cluster.getRing().shardFor(email) : ShardRoutingDataSource.HOME_SHARD;
+    }
+
+    /**
+     * 한 샤드에서 실행 (샤딩하지 않으면 호출 측 트랜잭션에서 그대로 실행)
+     */
+    public <T> T onShard(int shard, boolean readOnly, Function<CustomerRepository, T> action) {
+        if (!isSharded()) {
+            return action.apply(customerRepository);
+        }
+        return locked(() -> execute(shard, readOnly, action));
+    }
+
+    /**
+     * 모든 샤드에 병렬로 조회하고 결과를 샤드 순서대로 이어 붙인다
+     */
+    public <T> List<T> fanOut(Function<CustomerRepository, List<T>> query) {
+        if (!isSharded()) {
+            return query.apply(customerRepository);
+        }
+        return locked(() -> parallel(allShards(), shard -> execute(shard, true, query)));
+    }
+
+    /**
+     * fanOut 후 정렬 (각 샤드 결과는 이미 정렬되어 있으므로 단일 DB 면 그대로 반환)
+     */
+    public <T> List<T> fanOut(Function<CustomerRepository, List<T>> query, Comparator<? super T> order) {
+        List<T> merged = fanOut(query);
+        if (!isSharded()) {
+            return merged;
+        }
+        List<T> sorted = new ArrayList<>(merged);
+        sorted.sort(order);
+        return sorted;
+    }
+
+    /**
+     * 샤드를 하나씩 순서대로 방문 (스트리밍 조회용 - 샤드마다 읽기 전용 트랜잭션)
+     */
+    public void forEachShard(Consumer<CustomerRepository> action) {
+        if (!isSharded()) {
+            action.accept(customerRepository);
+            return;
+        }
+        locked(() -> {
+            for (int shard : allShards()) {
+                execute(shard, true, repository -> {
+                    action.accept(repository);
+                    return null;
+                });
+            }
+            return null;
+        });
+    }
+
+    public Optional<Customer> findByEmail(String email) {
+        return onShard(shardForEmail(email), true, repository -> repository.findByEmail(email));
+    }
+
+    public Optional<Customer> findById(Long id) {
+        if (!isSharded()) {
+            return customerRepository.findById(id);
+        }
+        return locked(() -> {
+            int encoded = ShardIds.shardOf(id);
+            if (encoded < cluster.getShardCount()) {
+                Optional<Customer> customer = execute(encoded, true, repository -> repository.findById(id));
+                if (customer.isPresent()) {
+                    return customer;
+                }
+            }
+            return parallel(allShards(), shard -> shard == encoded ? List.<Customer>of()
+                    : execute(shard, true, repository -> repository.findById(id)).map(List::of).orElse(List.of()))
+                    .stream()
+                    .findFirst();
+        });
+    }
+
+    /**
+     * 여러 고객을 PK 로 조회 (재배치 후에는 ID 에 인코딩된 샤드와 실제 위치가 다를 수 있어 모든 샤드에 같은 IN 쿼리)
+     */
+    public List<Customer> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return fanOut(repository -> repository.findAllById(ids));
+    }
+
+    /**
+     * 고객을 찾아 변경하고 저장 (change 는 고객이 있는 샤드의 트랜잭션 안에서 실행)
+     */
+    public Optional<Customer> updateById(Long id, Consumer<Customer> change) {
+        Function<CustomerRepository, Optional<Customer>> update = repository -> repository.findById(id)
+                .map(customer -> {
+                    change.accept(customer);
+                    return repository.save(customer);
+                });
+        if (!isSharded()) {
+            return update.apply(customerRepository);
+        }
+        return locked(() -> {
+            OptionalInt shard = locate(id);
+            if (shard.isEmpty()) {
+                return Optional.empty();
+            }
+            return execute(shard.getAsInt(), false, update);
+        });
+    }
+
+    /**
+     * 이메일 샤드별로 나눠 샤드마다 한 번씩 saveAll + flush (샤드끼리는 병렬)
+     */
+    public List<Customer> saveAll(List<Customer> customers) {
+        if (!isSharded()) {
+            return customerRepository.saveAllAndFlush(customers);
+        }
+        Map<Integer, List<Customer>> byShard = customers.stream()
+                .collect(Collectors.groupingBy(customer -> shardForEmail(customer.getEmail()), TreeMap::new,
+                        Collectors.toList()));
+        return locked(() -> parallel(byShard.keySet(),
+                shard -> execute(shard, false, repository -> repository.saveAllAndFlush(byShard.get(shard)))));
+    }
+
+    /**
+     * saveAll 과 같지만 샤드마다 커밋/실패 결과를 따로 돌려준다 (샤딩 시에만 사용)
+     * 샤드별 트랜잭션은 독립적으로 커밋되므로, 한 샤드가 실패해도 다른 샤드에 저장된 고객은 남는다.
+     */
+    public List<ShardWrite> saveAllByShard(List<Customer> customers) {
+        if (!isSharded()) {
+            throw new IllegalStateException("샤딩이 켜져 있을 때만 사용할 수 있습니다");
+        }
+        Map<Integer, List<Customer>> byShard = customers.stream()
+                .collect(Collectors.groupingBy(customer -> shardForEmail(customer.getEmail()), TreeMap::new,
+                        Collectors.toList()));
+        return locked(() -> parallel(byShard.keySet(), shard -> {
+            List<Customer> requested = byShard.get(shard);
+            try {
+                return List.of(ShardWrite.committed(shard, requested,
+                        execute(shard, false, repository -> repository.saveAllAndFlush(requested))));
+            } catch (RuntimeException e) {
+                return List.of(ShardWrite.failed(shard, requested, e));
+            }
+        }));
+    }
+
+    public List<String> findExistingEmails(Collection<String> emails) {
+        if (!isSharded()) {
+            return customerRepository.findExistingEmails(emails);
+        }
+        Map<Integer, List<String>> byShard = emails.stream()
+                .collect(Collectors.groupingBy(this::shardForEmail, TreeMap::new, Collectors.toList()));
+        return locked(() -> parallel(byShard.keySet(),
+                shard -> execute(shard, true, repository -> repository.findExistingEmails(byShard.get(shard)))));
+    }
+
+    public long count() {
+        return fanOut(repository -> List.of(repository.count())).stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long countByIsActiveTrue() {
+        return fanOut(repository -> List.of(repository.countByIsActiveTrue())).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 샤드별 고객 수 (샤드 번호 순)
+     */
+    public List<Long> countPerShard() {
+        return fanOut(repository -> List.of(repository.count()));
+    }
+
+    public List<Object[]> countGroupedByActive() {
+        return mergeCounts(fanOut(CustomerRepository::countGroupedByActive));
+    }
+
+    public List<Object[]> countCustomersByEmailDomain() {
+        return mergeCounts(fanOut(CustomerRepository::countCustomersByEmailDomain));
+    }
+
+    /**
+     * 재분배처럼 샤드 구성을 바꾸는 작업을 다른 접근과 배타적으로 실행
+     */
+    <T> T exclusively(Supplier<T> action) {
+        Lock lock = rebalanceLock.writeLock();
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ID 의 샤드 비트가 가리키는 샤드를 먼저, 없으면 (재분배로 옮겨졌거나 샤딩 전에 저장된 고객) 나머지 샤드 확인
+    private OptionalInt locate(Long id) {
+        int encoded = ShardIds.shardOf(id);
+        if (encoded < cluster.getShardCount()
+                && execute(encoded, true, repository -> repository.existsById(id))) {
+            return OptionalInt.of(encoded);
+        }
+        List<Integer> found = parallel(allShards(), shard -> shard != encoded
+                && execute(shard, true, repository -> repository.existsById(id)) ? List.of(shard) : List.of());
+        return found.isEmpty() ? OptionalInt.empty() : OptionalInt.of(found.get(0));
+    }
+
+    private <T> T execute(int shard, boolean readOnly, Function<CustomerRepository, T> action) {
+        TransactionTemplate transaction = readOnly ? readTransaction : writeTransaction;
+        return ShardContext.callOn(shard, () -> transaction.execute(status -> action.apply(customerRepository)));
+    }
+
+    private <T> List<T> parallel(Collection<Integer> shards, Function<Integer, List<T>> task) {
+        if (shards.size() == 1) {
+            return task.apply(shards.iterator().next());
+        }
+        List<CompletableFuture<List<T>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> task.apply(shard), cluster.getFanOutExecutor()))
+                .toList();
+        try {
+            return futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<Integer> allShards() {
+        return IntStream.range(0, cluster.getShardCount()).boxed().toList();
+    }
+
+    private <T> T locked(Supplier<T> action) {
+        Lock lock = rebalanceLock.readLock();
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 샤드 하나의 저장 결과 (failure 가 null 이면 requested 전체가 커밋됨)
+     */
+    public record ShardWrite(int shard, List<Customer> requested, List<Customer> saved, RuntimeException failure) {
+
+        static ShardWrite committed(int shard, List<Customer> requested, List<Customer> saved) {
+            return new ShardWrite(shard, requested, saved, null);
+        }
+
+        static ShardWrite failed(int shard, List<Customer> requested, RuntimeException failure) {
+            return new ShardWrite(shard, requested, List.of(), failure);
+        }
+
+        public boolean isCommitted() {
+            return failure == null;
+        }
+    }
+
+    // 샤드별 (키, 건수) 행을 키 기준으로 합산
+    private static List<Object[]> mergeCounts(List<Object[]> rows) {
+        Map<Object, Long> merged = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            merged.merge(row[0], (Long) row[1], Long::sum);
+        }
+        List<Object[]> result = new ArrayList<>(merged.size());
+        merged.forEach((key, count) -> result.add(new Object[]{key, count}));
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.jong.h2_db.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 고객 샤드 DB 들의 커넥션 풀, 해시 링, 병렬 조회용 스레드 풀
+ */
+@Slf4j
+public class ShardCluster implements AutoCloseable {
+
+    private final IntFunction<HikariDataSource> poolFactory;
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+    private final ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+    private final ExecutorService fanOutExecutor;
+    private volatile ConsistentHashRing ring;
+
+    /**
+     * @param poolFactory 샤드 번호로 커넥션 풀을 만든다 (0 번은 홈 샤드)
+     */
+    public ShardCluster(int shards, IntFunction<HikariDataSource> poolFactory) {
+        this.poolFactory = poolFactory;
+        for (int shard = 0; shard < shards; shard++) {
+            pools.add(poolFactory.apply(shard));
+        }
+        this.ring = new ConsistentHashRing(shards);
+        AtomicInteger threads = new AtomicInteger();
+        this.fanOutExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "customer-shard-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshTargets();
+    }
+
+    public ShardRoutingDataSource getRoutingDataSource() {
+        return routingDataSource;
+    }
+
+    public ExecutorService getFanOutExecutor() {
+        return fanOutExecutor;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public int getShardCount() {
+        return ring.getShards();
+    }
+
+    public HikariDataSource getDataSource(int shard) {
+        return pools.get(shard);
+    }
+
+    /**
+     * 새 샤드의 풀을 만들고 홈 샤드 스키마를 복사한다 (링에는 아직 넣지 않음)
+     */
+    public int addShardPool() {
+        int shard = pools.size();
+        if (shard >= ShardIds.MAX_SHARDS) {
+            throw new IllegalStateException("샤드는 최대 " + ShardIds.MAX_SHARDS + "개까지 추가할 수 있습니다");
+        }
+        pools.add(poolFactory.apply(shard));
+        refreshTargets();
+        copySchema(shard);
+        return shard;
+    }
+
+    /**
+     * 재분배가 끝난 뒤 새 링으로 교체
+     */
+    public void switchRing(ConsistentHashRing next) {
+        if (next.getShards() > pools.size()) {
+            throw new IllegalStateException("링의 샤드 수가 커넥션 풀보다 많습니다: " + next.getShards());
+        }
+        ring = next;
+    }
+
+    /**
+     * 홈 샤드에 Hibernate 가 만든 스키마를 나머지 샤드에 복사 (기동 시 한 번)
+     */
+    public void copySchemaToShards() {
+        for (int shard = 1; shard < pools.size(); shard++) {
+            copySchema(shard);
+        }
+        log.info("Customer schema copied to {} shards", pools.size() - 1);
+    }
+
+    private void copySchema(int shard) {
+        Path script = null;
+        try {
+            script = Files.createTempFile("shard-schema-", ".sql");
+            try (Connection connection = pools.get(ShardRoutingDataSource.HOME_SHARD).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT NODATA NOPASSWORDS NOSETTINGS TO " + literal(script));
+            }
+            try (Connection connection = pools.get(shard).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM " + literal(script));
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("샤드 " + shard + " 스키마를 만들 수 없습니다", e);
+        } finally {
+            if (script != null) {
+                try {
+                    Files.deleteIfExists(script);
+                } catch (IOException e) {
+                    log.warn("Could not delete schema script {}: {}", script, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void refreshTargets() {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < pools.size(); shard++) {
+            targets.put(shard, pools.get(shard));
+        }
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(pools.get(ShardRoutingDataSource.HOME_SHARD));
+        routingDataSource.setLenientFallback(false);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    private static String literal(Path path) {
+        return "'" + path.toAbsolutePath().toString().replace('\\', '/').replace("'", "''") + "'";
+    }
+
+    @Override
+    public void close() {
+        fanOutExecutor.shutdownNow();
+        pools.forEach(HikariDataSource::close);
+        log.info("Closed {} customer shard pools", pools.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.jong.h2_db.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 접근할 고객 샤드 번호 (없으면 홈 샤드)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 샤드에서 실행하고 이전 값을 복원한다 (중첩 호출 가능)
+     */
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.jong.h2_db.shard;
+
+import com.jong.h2_db.id.TsidGenerator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 샤드 번호를 TSID 노드 비트의 상위 5비트에 담는다
+ *
+ * <pre>
+ * | 노드 10 | = | 샤드 5 | 인스턴스 5 |
+ * </pre>
+ *
+ * ID 만 보고 저장된 샤드를 알 수 있으므로 findById 는 한 샤드만 조회한다.
+ * (재분배로 옮겨진 고객은 ID 의 샤드와 실제 샤드가 다를 수 있어 호출 측에서 나머지 샤드를 확인한다)
+ * <p>
+ * 인스턴스 자리에는 노드 번호(tsid.node)의 하위 5비트만 들어가므로, 샤딩 시 ID 가 겹치지 않는 인스턴스는 최대 32개다.
+ * 하위 5비트가 같은 노드 번호(예: 1 과 33)를 쓰는 두 인스턴스는 같은 샤드에서 같은 ID 를 만들 수 있으니
+ * 인스턴스마다 0 ~ 31 범위의 노드 번호를 지정해야 한다.
+ * 저장 시 이 생성기를 쓰도록 하는 연결은 {@link ShardTsidGeneratorStrategy} 가 맡는다.
+ */
+public final class ShardIds {
+
+    public static final int SHARD_BITS = 5;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final int INSTANCE_BITS = TsidGenerator.NODE_BITS - SHARD_BITS;
+    private static final int INSTANCE_MASK = (1 << INSTANCE_BITS) - 1;
+
+    private static final ConcurrentMap<Integer, TsidGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private ShardIds() {
+    }
+
+    public static TsidGenerator generatorFor(int shard) {
+        return GENERATORS.computeIfAbsent(shard, key ->
+                new TsidGenerator(key << INSTANCE_BITS | (TsidGenerator.getDefault().getNode() & INSTANCE_MASK)));
+    }
+
+    public static int shardOf(long id) {
+        return TsidGenerator.nodeOf(id) >>> INSTANCE_BITS;
+    }
+}
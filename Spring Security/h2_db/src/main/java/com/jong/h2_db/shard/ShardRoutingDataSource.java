@@ -0,0 +1,18 @@
+package com.jong.h2_db.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext 의 샤드로 커넥션을 보낸다 (설정되지 않았으면 홈 샤드 = 고객 외 모든 테이블)
+ * 트랜잭션 시작 후 첫 SQL 시점에 대상을 정하도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final int HOME_SHARD = 0;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? HOME_SHARD : shard;
+    }
+}
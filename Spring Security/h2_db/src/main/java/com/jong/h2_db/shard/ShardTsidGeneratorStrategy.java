@@ -0,0 +1,34 @@
+package com.jong.h2_db.shard;
+
+import com.jong.h2_db.id.TsidGenerator;
+import com.jong.h2_db.id.TsidGeneratorStrategy;
+import com.jong.h2_db.id.TsidIdentifierGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 샤드 안에서 저장될 때는 노드 비트에 샤드 번호를 담은 생성기를 쓰도록 TSID 생성 전략을 바꾼다
+ * (샤드 밖에서는 프로세스 공용 생성기)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.shards", name = "enabled", havingValue = "true")
+public class ShardTsidGeneratorStrategy implements TsidGeneratorStrategy {
+
+    @Override
+    public TsidGenerator current() {
+        Integer shard = ShardContext.current();
+        return shard == null ? TsidGenerator.getDefault() : ShardIds.generatorFor(shard);
+    }
+
+    @PostConstruct
+    public void register() {
+        TsidIdentifierGenerator.useStrategy(this);
+    }
+
+    @PreDestroy
+    public void unregister() {
+        TsidIdentifierGenerator.resetStrategy();
+    }
+}
@@ -0,0 +1,209 @@
+package com.jong.h2_db.snapshot;
+
+import com.jong.h2_db.model.ProductStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 전용 상품 카탈로그 스냅샷 (열 지향 primitive 배열)
+ * 모든 배열은 (price, id) 순으로 정렬되어 있어 가격 조건은 이진 탐색으로 처리한다.
+ * 조회 메서드는 결과 배열 하나 외에는 할당하지 않으며, 결과는 limit 개까지만 (price, id) 순으로 돌려준다.
+ */
+public final class CatalogSnapshot {
+
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+
+    private final long version;
+    private final long[] ids;
+    private final long[] priceCents;
+    private final int[] stock;
+    private final byte[] status;
+    private final int[] statusCounts;
+
+    private CatalogSnapshot(long version, long[] ids, long[] priceCents, int[] stock, byte[] status) {
+        this.version = version;
+        this.ids = ids;
+        this.priceCents = priceCents;
+        this.stock = stock;
+        this.status = status;
+        this.statusCounts = new int[STATUSES.length];
+        for (byte ordinal : status) {
+            statusCounts[ordinal]++;
+        }
+    }
+
+    static CatalogSnapshot of(long version, List<Row> rows) {
+        Row[] sorted = rows.toArray(Row[]::new);
+        Arrays.sort(sorted);
+
+        int size = sorted.length;
+        long[] ids = new long[size];
+        long[] priceCents = new long[size];
+        int[] stock = new int[size];
+        byte[] status = new byte[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = sorted[i].id();
+            priceCents[i] = sorted[i].priceCents();
+            stock[i] = sorted[i].stock();
+            status[i] = sorted[i].status();
+        }
+        return new CatalogSnapshot(version, ids, priceCents, stock, status);
+    }
+
+    /**
+     * 일부 상품만 바뀐 새 스냅샷
+     * changedIds 에 해당하는 기존 행을 빼고 rows (변경 후 값, 삭제된 상품은 없음) 를 정렬 순서대로 병합한다.
+     */
+    CatalogSnapshot withChanges(long version, long[] changedIds, List<Row> rows) {
+        if (changedIds.length == 0) {
+            return new CatalogSnapshot(version, ids, priceCents, stock, this.status);
+        }
+        long[] changed = changedIds.clone();
+        Arrays.sort(changed);
+        Row[] added = rows.toArray(Row[]::new);
+        Arrays.sort(added);
+
+        int kept = 0;
+        for (long id : ids) {
+            if (Arrays.binarySearch(changed, id) < 0) {
+                kept++;
+            }
+        }
+
+        int size = kept + added.length;
+        long[] newIds = new long[size];
+        long[] newPriceCents = new long[size];
+        int[] newStock = new int[size];
+        byte[] newStatus = new byte[size];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < size; k++) {
+            while (i < ids.length && Arrays.binarySearch(changed, ids[i]) >= 0) {
+                i++;
+            }
+            boolean fromOld = i < ids.length && (j == added.length
+                    || compare(priceCents[i], ids[i], added[j].priceCents(), added[j].id()) < 0);
+            if (fromOld) {
+                newIds[k] = ids[i];
+                newPriceCents[k] = priceCents[i];
+                newStock[k] = stock[i];
+                newStatus[k] = this.status[i];
+                i++;
+            } else {
+                newIds[k] = added[j].id();
+                newPriceCents[k] = added[j].priceCents();
+                newStock[k] = added[j].stock();
+                newStatus[k] = added[j].status();
+                j++;
+            }
+        }
+        return new CatalogSnapshot(version, newIds, newPriceCents, newStock, newStatus);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long countByStatus(ProductStatus productStatus) {
+        return statusCounts[productStatus.ordinal()];
+    }
+
+    // minCents <= price <= maxCents
+    public long[] idsInPriceRange(long minCents, long maxCents, int limit) {
+        int from = lowerBound(minCents);
+        int to = lowerBound(maxCents == Long.MAX_VALUE ? maxCents : maxCents + 1);
+        return from >= to ? new long[0] : Arrays.copyOfRange(ids, from, (int) Math.min(to, (long) from + limit));
+    }
+
+    // price < maxCents AND status = ACTIVE
+    public long[] activeIdsUnderPrice(long maxCents, int limit) {
+        int to = lowerBound(maxCents);
+        byte active = (byte) ProductStatus.ACTIVE.ordinal();
+        int count = 0;
+        for (int i = 0; i < to && count < limit; i++) {
+            if (status[i] == active) {
+                count++;
+            }
+        }
+        long[] result = new long[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (status[i] == active) {
+                result[j++] = ids[i];
+            }
+        }
+        return result;
+    }
+
+    // stock < threshold AND status = ACTIVE
+    public long[] activeIdsWithStockBelow(int threshold, int limit) {
+        byte active = (byte) ProductStatus.ACTIVE.ordinal();
+        int count = 0;
+        for (int i = 0; i < stock.length && count < limit; i++) {
+            if (stock[i] < threshold && status[i] == active) {
+                count++;
+            }
+        }
+        long[] result = new long[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (stock[i] < threshold && status[i] == active) {
+                result[j++] = ids[i];
+            }
+        }
+        return result;
+    }
+
+    public long[] outOfStockIds(int limit) {
+        int count = 0;
+        for (int i = 0; i < stock.length && count < limit; i++) {
+            if (stock[i] == 0) {
+                count++;
+            }
+        }
+        long[] result = new long[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (stock[i] == 0) {
+                result[j++] = ids[i];
+            }
+        }
+        return result;
+    }
+
+    // priceCents 에서 target 이상인 첫 위치
+    private int lowerBound(long target) {
+        int low = 0;
+        int high = priceCents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceCents[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(long priceCents, long id, long otherPriceCents, long otherId) {
+        int byPrice = Long.compare(priceCents, otherPriceCents);
+        return byPrice != 0 ? byPrice : Long.compare(id, otherId);
+    }
+
+    public static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        return price.setScale(2, roundingMode).movePointRight(2).longValueExact();
+    }
+
+    record Row(long id, long priceCents, int stock, byte status) implements Comparable<Row> {
+
+        @Override
+        public int compareTo(Row other) {
+            return compare(priceCents, id, other.priceCents, other.id);
+        }
+    }
+}
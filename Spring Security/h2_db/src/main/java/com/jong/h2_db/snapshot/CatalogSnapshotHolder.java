@@ -0,0 +1,188 @@
+package com.jong.h2_db.snapshot;
+
+import com.jong.h2_db.event.ProductChangedEvent;
+import com.jong.h2_db.model.ProductStatus;
+import com.jong.h2_db.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 최신 CatalogSnapshot 을 보관하고 상품 변경 시 백그라운드에서 갱신해 원자적으로 교체한다.
+ * 단건 변경은 바뀐 상품의 행만 다시 읽어 반영하고, bulk 이벤트나 변경이 많을 때만 전체를 다시 만든다.
+ * 변경이 반영되지 않은 스냅샷은 fresh() 에서 제외되어 호출 측이 DB 로 대체 조회한다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotHolder {
+
+    // 한 번에 부분 갱신할 최대 상품 수 (넘으면 전체 재생성이 더 싸다)
+    private static final int MAX_DELTA_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong changeVersion = new AtomicLong();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final AtomicBoolean fullRebuildRequested = new AtomicBoolean();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogSnapshotHolder(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild(changeVersion.get());
+    }
+
+    public Optional<CatalogSnapshot> fresh() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot == null || snapshot.version() != changeVersion.get()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    // 쓰기 트랜잭션 안에서 즉시 stale 처리
+    @EventListener
+    public void markStale(ProductChangedEvent event) {
+        changeVersion.incrementAndGet();
+    }
+
+    // 커밋/롤백 이후 다시 stale 처리하고 갱신 예약 (커밋 전에 시작된 갱신 결과를 무효화)
+    // 변경 대상을 먼저 기록한 뒤 버전을 올려야, 올라간 버전으로 만든 스냅샷에 이 변경이 빠지지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void refreshAfterCompletion(ProductChangedEvent event) {
+        if (event.isBulk()) {
+            fullRebuildRequested.set(true);
+        } else {
+            pendingIds.add(event.productId());
+        }
+        changeVersion.incrementAndGet();
+        scheduleRefresh();
+    }
+
+    public void scheduleRebuild() {
+        fullRebuildRequested.set(true);
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                refreshScheduled.set(false);
+                refresh();
+            });
+        }
+    }
+
+    private void refresh() {
+        long targetVersion = changeVersion.get();
+        CatalogSnapshot base = current.get();
+        boolean full = fullRebuildRequested.getAndSet(false);
+        long[] changedIds = drainPendingIds();
+        if (full || base == null || changedIds.length > MAX_DELTA_SIZE) {
+            rebuild(targetVersion);
+        } else {
+            applyChanges(base, targetVersion, changedIds);
+        }
+    }
+
+    private long[] drainPendingIds() {
+        List<Long> drained = new ArrayList<>();
+        for (Iterator<Long> it = pendingIds.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void rebuild(long targetVersion) {
+        long start = System.currentTimeMillis();
+        try {
+            List<CatalogSnapshot.Row> rows = readOnlyTransaction.execute(status -> loadRows());
+            CatalogSnapshot snapshot = CatalogSnapshot.of(targetVersion, rows);
+            current.set(snapshot);
+            log.debug("Catalog snapshot v{} built: {} products in {}ms",
+                    targetVersion, snapshot.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            fullRebuildRequested.set(true);
+            log.error("Failed to build catalog snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    private void applyChanges(CatalogSnapshot base, long targetVersion, long[] changedIds) {
+        long start = System.currentTimeMillis();
+        try {
+            List<CatalogSnapshot.Row> rows = changedIds.length == 0
+                    ? List.of()
+                    : readOnlyTransaction.execute(status -> loadRows(changedIds));
+            CatalogSnapshot snapshot = base.withChanges(targetVersion, changedIds, rows);
+            current.set(snapshot);
+            log.debug("Catalog snapshot v{} updated: {} changed products in {}ms",
+                    targetVersion, changedIds.length, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 어떤 변경이 빠졌는지 알 수 없으므로 다음 갱신은 전체 재생성
+            fullRebuildRequested.set(true);
+            log.error("Failed to update catalog snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<CatalogSnapshot.Row> loadRows() {
+        List<CatalogSnapshot.Row> rows = new ArrayList<>();
+        try (Stream<Object[]> columns = productRepository.streamCatalogColumns()) {
+            columns.forEach(column -> rows.add(toRow(column)));
+        }
+        return rows;
+    }
+
+    private List<CatalogSnapshot.Row> loadRows(long[] ids) {
+        return productRepository.findCatalogColumnsByIdIn(Arrays.stream(ids).boxed().toList()).stream()
+                .map(this::toRow)
+                .toList();
+    }
+
+    private CatalogSnapshot.Row toRow(Object[] column) {
+        return new CatalogSnapshot.Row(
+                (Long) column[0],
+                CatalogSnapshot.toCents((BigDecimal) column[1], RoundingMode.UNNECESSARY),
+                (Integer) column[2],
+                (byte) ((ProductStatus) column[3]).ordinal());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
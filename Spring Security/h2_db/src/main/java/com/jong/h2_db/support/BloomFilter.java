@@ -0,0 +1,56 @@
+package com.jong.h2_db.support;
+
+/**
+ * 문자열 Bloom 필터 (거짓 양성은 있지만 거짓 음성은 없음)
+ * mightContain 이 false 면 확실히 없는 값이므로 DB 확인을 건너뛸 수 있다.
+ * 동기화하지 않으므로 한 스레드에서만 사용해야 한다.
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = bits.length * 64L;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * expectedInsertions 개를 넣었을 때 거짓 양성 확률이 falsePositiveRate 가 되도록 크기를 정한다
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bitCount = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new BloomFilter(Math.max(64, bitCount), hashCount);
+    }
+
+    public void put(String value) {
+        long hash = Hashing.hash64(value);
+        long h1 = hash >>> 32;
+        long h2 = hash & 0xffffffffL;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = Hashing.hash64(value);
+        long h1 = hash >>> 32;
+        long h2 = hash & 0xffffffffL;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long sizeInBytes() {
+        return bits.length * 8L;
+    }
+}
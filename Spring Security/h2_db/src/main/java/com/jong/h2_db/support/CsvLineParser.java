@@ -0,0 +1,48 @@
+package com.jong.h2_db.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 줄 단위 CSV 파서 (RFC 4180 의 따옴표/이스케이프 처리, 필드 내 줄바꿈은 지원하지 않음)
+ */
+public final class CsvLineParser {
+
+    private CsvLineParser() {
+    }
+
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,24 @@
+package com.jong.h2_db.support;
+
+/**
+ * 스케치/Bloom 필터용 64비트 문자열 해시 (FNV-1a 후 murmur3 fmix64 로 비트를 섞음)
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
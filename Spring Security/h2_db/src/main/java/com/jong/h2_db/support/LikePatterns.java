@@ -0,0 +1,19 @@
+package com.jong.h2_db.support;
+
+/**
+ * LIKE 검색어 이스케이프 (쿼리에서는 ESCAPE '\' 와 함께 사용)
+ * 검색어의 %, _ 가 와일드카드로 해석되어 전체 행과 일치하지 않도록 한다.
+ */
+public final class LikePatterns {
+
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,89 @@
+package com.jong.h2_db.support;
+
+import com.jong.h2_db.dto.SingleFlightStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나의 실행으로 합친다.
+ * 먼저 들어온 호출이 loader 를 실행하고, 그 사이에 들어온 호출은 같은 결과(또는 예외)를 공유한다.
+ * 결과는 보관하지 않으므로 실행이 끝난 뒤 들어온 호출은 다시 loader 를 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentHashMap<K, Call<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        requests.increment();
+        Call<V> call = new Call<>();
+        Call<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return existing.await();
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public SingleFlightStats stats() {
+        long requestCount = requests.sum();
+        long executionCount = executions.sum();
+        long coalesced = requestCount - executionCount;
+        double ratio = requestCount == 0 ? 0.0 : (double) coalesced / requestCount;
+
+        Map<String, Integer> waiters = new LinkedHashMap<>();
+        inFlight.forEach((key, call) -> {
+            int count = call.waiters.get();
+            if (count > 0) {
+                waiters.put(String.valueOf(key), count);
+            }
+        });
+        return new SingleFlightStats(name, requestCount, executionCount, coalesced, ratio, waiters);
+    }
+
+    private static final class Call<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        V await() {
+            waiters.incrementAndGet();
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        }
+    }
+}
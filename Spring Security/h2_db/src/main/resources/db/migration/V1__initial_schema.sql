@@ -0,0 +1,46 @@
+-- 엔티티 매핑과 같은 스키마 (persistent 프로필은 ddl-auto: validate 로 이 스키마를 검증만 한다)
+
+CREATE TABLE products (
+    id             BIGINT        NOT NULL,
+    name           VARCHAR(100)  NOT NULL,
+    description    VARCHAR(500),
+    price          NUMERIC(10, 2) NOT NULL,
+    stock_quantity INTEGER       NOT NULL,
+    status         ENUM ('ACTIVE', 'INACTIVE', 'DISCONTINUED') NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    version        BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_products_status_id ON products (status, id);
+CREATE INDEX idx_products_price_id ON products (price, id);
+
+CREATE TABLE customers (
+    id            BIGINT       NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    phone         VARCHAR(20),
+    date_of_birth DATE,
+    address       VARCHAR(200),
+    is_active     BOOLEAN      NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_customers_email UNIQUE (email)
+);
+
+CREATE INDEX idx_customers_date_of_birth ON customers (date_of_birth);
+
+CREATE TABLE customer_registration_daily (
+    registration_date DATE   NOT NULL,
+    registrations     BIGINT NOT NULL,
+    PRIMARY KEY (registration_date)
+);
+
+CREATE TABLE customer_registration_monthly (
+    registration_year  INTEGER NOT NULL,
+    registration_month INTEGER NOT NULL,
+    registrations      BIGINT  NOT NULL,
+    PRIMARY KEY (registration_year, registration_month)
+);
@@ -0,0 +1,13 @@
+-- 상품 변경 아웃박스 (ProductOutboxRecord)
+
+CREATE TABLE product_outbox (
+    id            BIGINT       NOT NULL,
+    product_id    BIGINT,
+    change_type   ENUM ('CREATED', 'UPDATED', 'STOCK_CHANGED', 'STATUS_CHANGED', 'DELETED') NOT NULL,
+    occurred_at   TIMESTAMP(6) NOT NULL,
+    feed_sequence BIGINT,
+    published_at  TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX idx_product_outbox_feed_sequence ON product_outbox (feed_sequence);
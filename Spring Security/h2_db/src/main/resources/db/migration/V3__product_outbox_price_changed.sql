@@ -0,0 +1,4 @@
+-- 가격 변경 전용 변경 유형 추가 (ProductChangeType.PRICE_CHANGED)
+
+ALTER TABLE product_outbox ALTER COLUMN change_type
+    SET DATA TYPE ENUM ('CREATED', 'UPDATED', 'PRICE_CHANGED', 'STOCK_CHANGED', 'STATUS_CHANGED', 'DELETED');
@@ -0,0 +1,110 @@
+package com.jong.h2_db;
+
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.repository.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 모드와 파일(nioMapped) 모드의 재기동 → 첫 조회 완료 시간과 정상 상태 조회 지연 비교
+ * 메모리 모드는 재기동하면 데이터가 없으므로 같은 양을 다시 적재하는 시간까지 포함한다.
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class PersistentStoreBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 50_000;
+    private static final int WARMUP_READS = 2_000;
+    private static final int MEASURED_READS = 10_000;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void compareRestartAndReadLatency() {
+        // 파일 모드: 최초 기동에서 한 번 적재하고 종료한 뒤 재기동을 측정
+        List<Long> persistedIds;
+        try (ConfigurableApplicationContext context = start(true)) {
+            persistedIds = seed(context);
+        }
+        Run persistent = measureRestart("persistent", true, persistedIds);
+        Run memory = measureRestart("memory", false, null);
+
+        System.out.printf("%-12s %20s %12s %12s%n", "mode", "restart->first (ms)", "p50 (us)", "p99 (us)");
+        for (Run run : List.of(memory, persistent)) {
+            System.out.printf("%-12s %20d %12.1f %12.1f%n",
+                    run.mode(), run.restartToFirstReadMillis(), run.p50Micros(), run.p99Micros());
+        }
+    }
+
+    private Run measureRestart(String mode, boolean persistent, List<Long> persistedIds) {
+        long begin = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(persistent)) {
+            List<Long> ids = persistent ? persistedIds : seed(context);
+            ProductRepository repository = context.getBean(ProductRepository.class);
+            assertThat(repository.findById(randomId(ids))).isPresent();
+            long restartToFirstRead = (System.nanoTime() - begin) / 1_000_000;
+
+            for (int i = 0; i < WARMUP_READS; i++) {
+                repository.findById(randomId(ids));
+            }
+            long[] latencies = new long[MEASURED_READS];
+            for (int i = 0; i < MEASURED_READS; i++) {
+                Long id = randomId(ids);
+                long start = System.nanoTime();
+                repository.findById(id);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            return new Run(mode, restartToFirstRead,
+                    latencies[MEASURED_READS / 2] / 1_000.0,
+                    latencies[(int) (MEASURED_READS * 0.99)] / 1_000.0);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean persistent) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(H2DbApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.com.jong.h2_db=INFO");
+        if (persistent) {
+            builder.profiles("persistent").properties("app.persistent.data-dir=" + dataDir.toAbsolutePath());
+        } else {
+            builder.properties("spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        }
+        return builder.run();
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context) {
+        ProductRepository repository = context.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(new Product("벤치마크 상품 " + i, "벤치마크용 상품 설명 ".repeat(10),
+                    BigDecimal.valueOf(1000 + i), i % 50));
+        }
+        return repository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    private static Long randomId(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private record Run(String mode, long restartToFirstReadMillis, double p50Micros, double p99Micros) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.jong.h2_db;
+
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.exception.InsufficientStockException;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.outbox.ProductChangeFeed;
+import com.jong.h2_db.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "app.outbox.relay-interval=PT0.05S"
+})
+class ProductOutboxRelayTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductChangeFeed productChangeFeed;
+
+    @Test
+    void committedWritesAreRelayedInOrderWithGaplessSequences() throws Exception {
+        awaitTrue(productChangeFeed::isReady);
+        long after = productChangeFeed.head();
+
+        Product product = productService.createProduct("피드 테스트 상품", "아웃박스 릴레이 테스트",
+                new BigDecimal("5000"), 10);
+        productService.updateStock(product.getId(), 3);
+
+        List<ProductChange> changes = awaitChanges(after, product.getId(), 2);
+        assertThat(changes).extracting(ProductChange::type)
+                .containsExactly(ProductChangeType.CREATED, ProductChangeType.STOCK_CHANGED);
+
+        // 다른 테스트의 변경이 섞여도 sequence 자체에는 빈틈이 없어야 한다
+        List<ProductChange> all = productService.getProductChanges(after, ProductService.MAX_CHANGE_PAGE_SIZE).changes();
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).sequence()).isEqualTo(after + i + 1);
+        }
+    }
+
+    @Test
+    void rolledBackWritesAreNotRelayed() throws Exception {
+        awaitTrue(productChangeFeed::isReady);
+        long start = productChangeFeed.head();
+        Product product = productService.createProduct("롤백 테스트 상품", "재고 부족 예약",
+                new BigDecimal("5000"), 1);
+        long after = awaitChanges(start, product.getId(), 1).get(0).sequence();
+
+        assertThatThrownBy(() -> productService.reserveStock(product.getId(), 5))
+                .isInstanceOf(InsufficientStockException.class);
+        productService.reserveStock(product.getId(), 1);
+
+        List<ProductChange> changes = awaitChanges(after, product.getId(), 1);
+        assertThat(changes).extracting(ProductChange::type).containsExactly(ProductChangeType.STOCK_CHANGED);
+    }
+
+    @Test
+    void subscribersReceiveRelayedChanges() throws Exception {
+        awaitTrue(productChangeFeed::isReady);
+        List<ProductChange> received = new CopyOnWriteArrayList<>();
+        try (ProductChangeFeed.Subscription subscription =
+                     productChangeFeed.subscribe("relay-test", productChangeFeed.head(), received::addAll)) {
+            Product product = productService.createProduct("구독 테스트 상품", "구독자 전달 테스트",
+                    new BigDecimal("5000"), 10);
+
+            awaitTrue(() -> received.stream().anyMatch(change -> product.getId().equals(change.productId())));
+            long created = received.stream()
+                    .filter(change -> product.getId().equals(change.productId()))
+                    .findFirst().orElseThrow().sequence();
+            // offset 은 핸들러가 끝난 뒤에 전진한다
+            awaitTrue(() -> subscription.getOffset() >= created);
+            assertThat(received).extracting(ProductChange::sequence).doesNotHaveDuplicates();
+        }
+    }
+
+    // 릴레이는 스케줄러 스레드에서만 실행되므로 게시될 때까지 기다린다
+    private List<ProductChange> awaitChanges(long after, Long productId, int expected) throws InterruptedException {
+        AtomicReference<List<ProductChange>> found = new AtomicReference<>(List.of());
+        awaitTrue(() -> {
+            found.set(productService.getProductChanges(after, ProductService.MAX_CHANGE_PAGE_SIZE).changes().stream()
+                    .filter(change -> productId.equals(change.productId()))
+                    .toList());
+            return found.get().size() >= expected;
+        });
+        return found.get();
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.get()) {
+            assertThat(System.currentTimeMillis()).as("timed out waiting for the outbox relay").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
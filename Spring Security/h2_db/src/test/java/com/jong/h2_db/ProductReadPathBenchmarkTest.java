@@ -0,0 +1,93 @@
+package com.jong.h2_db;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jong.h2_db.dto.ProductSummary;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.repository.ProductRepository;
+import com.jong.h2_db.service.ProductService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 경로와 DTO 프로젝션 경로의 힙 할당량/처리량 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.jong.h2_db=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductReadPathBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 20_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void seedProducts() {
+        List<Product> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(new Product("벤치마크 상품 " + i, "벤치마크용 상품 설명 ".repeat(10),
+                    BigDecimal.valueOf(1000 + i), i % 50));
+        }
+        productRepository.saveAll(products);
+    }
+
+    @Test
+    void compareEntityAndProjectionReadPaths() throws Exception {
+        Result entity = measure("entity", productService::getAllActiveProducts);
+        Result projection = measure("projection", productService::getActiveProductSummaries);
+
+        System.out.printf("%-10s %12s %16s%n", "path", "ops/sec", "bytes/op");
+        System.out.printf("%-10s %12.1f %16d%n", entity.name(), entity.opsPerSecond(), entity.bytesPerOp());
+        System.out.printf("%-10s %12.1f %16d%n", projection.name(), projection.opsPerSecond(), projection.bytesPerOp());
+
+        List<ProductSummary> summaries = productService.getActiveProductSummaries();
+        assertThat(summaries).hasSameSizeAs(productService.getAllActiveProducts());
+    }
+
+    private Result measure(String name, Supplier<? extends List<?>> readPath) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            objectMapper.writeValueAsBytes(readPath.get());
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            // 응답 직렬화까지 포함해서 측정
+            objectMapper.writeValueAsBytes(readPath.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Result(name, MEASURED_ROUNDS * 1_000_000_000.0 / elapsed, allocated / MEASURED_ROUNDS);
+    }
+
+    private record Result(String name, double opsPerSecond, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.jong.h2_db;
+
+import com.jong.h2_db.exception.InsufficientStockException;
+import com.jong.h2_db.model.Product;
+import com.jong.h2_db.service.ProductService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 상품에 대한 동시 재고 예약 처리량 (스레드 수별)
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.jong.h2_db=INFO"
+})
+class ProductStockReservationBenchmarkTest {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+    private static final int TOTAL_ATTEMPTS = 12_800;
+    private static final int INITIAL_STOCK = 10_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void reservationThroughput() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            Product product = productService.createProduct("예약 벤치마크 상품 " + threads, "재고 예약 처리량 측정",
+                    new BigDecimal("10000"), INITIAL_STOCK);
+            Long id = product.getId();
+            int attemptsPerThread = TOTAL_ATTEMPTS / threads;
+
+            AtomicInteger reserved = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            productService.reserveStock(id, 1);
+                            reserved.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            System.out.printf("%2d threads: %d reserved, %d rejected, %.0f attempts/sec%n",
+                    threads, reserved.get(), rejected.get(),
+                    (reserved.get() + rejected.get()) * 1_000_000_000.0 / elapsed);
+            assertThat(reserved.get()).isEqualTo(INITIAL_STOCK);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jong.h2_db;
+
+import com.jong.h2_db.id.TsidGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 수별 TSID 발급 처리량 (IDs/sec) 측정 및 중복/정렬 검증
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class TsidGeneratorBenchmarkTest {
+
+    private static final int IDS_PER_THREAD = 500_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+    @Test
+    void measureIdsPerSecondAcrossThreads() throws Exception {
+        // 워밍업
+        run(new TsidGenerator(1), 4);
+
+        System.out.printf("%-8s %14s%n", "threads", "ids/sec");
+        for (int threads : THREAD_COUNTS) {
+            TsidGenerator generator = new TsidGenerator(1);
+            Run run = run(generator, threads);
+            System.out.printf("%-8d %14.0f%n", threads, run.idsPerSecond());
+
+            long[] all = run.ids();
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                if (all[i] == all[i - 1]) {
+                    throw new AssertionError("중복 ID: " + all[i]);
+                }
+            }
+            assertThat(TsidGenerator.nodeOf(all[0])).isEqualTo(1);
+        }
+    }
+
+    private Run run(TsidGenerator generator, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[IDS_PER_THREAD];
+                start.await();
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids[i] = generator.next();
+                }
+                return ids;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] all = new long[threads * IDS_PER_THREAD];
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * IDS_PER_THREAD, IDS_PER_THREAD);
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        // 한 스레드 안에서는 항상 증가해야 한다 (측정 구간 밖에서 검증)
+        for (int t = 0; t < threads; t++) {
+            for (int i = t * IDS_PER_THREAD + 1; i < (t + 1) * IDS_PER_THREAD; i++) {
+                if (all[i] <= all[i - 1]) {
+                    throw new AssertionError("스레드 " + t + " 에서 ID 가 감소했습니다: " + all[i - 1] + " -> " + all[i]);
+                }
+            }
+        }
+
+        return new Run(all, (double) all.length * 1_000_000_000 / elapsed);
+    }
+
+    private record Run(long[] ids, double idsPerSecond) {
+    }
+}
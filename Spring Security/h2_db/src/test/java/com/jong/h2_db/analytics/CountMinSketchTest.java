@@ -0,0 +1,46 @@
+package com.jong.h2_db.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimateNeverUndercountsAndStaysWithinErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            // 앞쪽 항목일수록 자주 나오도록 치우친 분포
+            String item = "domain" + (int) Math.pow(random.nextInt(1_000), 2) / 1_000 + ".com";
+            sketch.add(item, 1);
+            exact.merge(item, 1L, Long::sum);
+        }
+
+        assertThat(sketch.total()).isEqualTo(20_000);
+        long bound = sketch.errorBound();
+        int withinBound = 0;
+        for (Map.Entry<String, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+            if (estimate - entry.getValue() <= bound) {
+                withinBound++;
+            }
+        }
+        // 확률적 보장 (1 - e^-4 ≈ 98%)
+        assertThat(withinBound).isGreaterThanOrEqualTo((int) (exact.size() * 0.95));
+    }
+
+    @Test
+    void unseenItemEstimatesZeroOnEmptySketch() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+
+        assertThat(sketch.estimate("example.com")).isZero();
+        assertThat(sketch.errorBound()).isZero();
+    }
+}
@@ -0,0 +1,41 @@
+package com.jong.h2_db.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesDistinctCountWithinStandardError() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50_000; i++) {
+                hll.add("user" + i + "@example.com");
+            }
+        }
+
+        // 중복은 세지 않고, 오차는 표준 오차의 4배 이내
+        assertThat((double) hll.estimate()).isCloseTo(50_000, within(50_000 * hll.standardError() * 4));
+    }
+
+    @Test
+    void smallCardinalityUsesLinearCounting() {
+        HyperLogLog hll = new HyperLogLog(12);
+        assertThat(hll.estimate()).isZero();
+
+        for (int i = 0; i < 100; i++) {
+            hll.add("domain" + i + ".com");
+        }
+
+        assertThat(hll.estimate()).isBetween(95L, 105L);
+    }
+
+    @Test
+    void rejectsPrecisionOutOfRange() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(19)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
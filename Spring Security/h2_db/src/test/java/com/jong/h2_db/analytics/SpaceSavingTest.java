@@ -0,0 +1,42 @@
+package com.jong.h2_db.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    void keepsHeavyHittersWhenCapacityIsExceeded() {
+        SpaceSaving topK = new SpaceSaving(4);
+        for (int i = 0; i < 1_000; i++) {
+            topK.add("rare" + i + ".com", 1);
+            if (i % 2 == 0) {
+                topK.add("gmail.com", 1);
+            }
+        }
+
+        // gmail.com 은 전체 1500 건 중 500 건으로 1/capacity 를 넘으므로 반드시 남는다
+        List<SpaceSaving.Entry> top = topK.top(1);
+        assertThat(top).extracting(SpaceSaving.Entry::item).containsExactly("gmail.com");
+        // 추정치는 실제 건수 이상이고, 실제 건수는 count - error 이상
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(500);
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(500);
+    }
+
+    @Test
+    void topIsOrderedByCountThenItem() {
+        SpaceSaving topK = new SpaceSaving(8);
+        topK.add("b.com", 3);
+        topK.add("a.com", 3);
+        topK.add("c.com", 5);
+        topK.add("d.com", 1);
+
+        assertThat(topK.top(10)).extracting(SpaceSaving.Entry::item)
+                .containsExactly("c.com", "a.com", "b.com", "d.com");
+        assertThat(topK.top(10)).allMatch(entry -> entry.error() == 0);
+        assertThat(topK.top(2)).hasSize(2);
+    }
+}
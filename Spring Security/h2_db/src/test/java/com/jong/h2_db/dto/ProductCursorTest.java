@@ -0,0 +1,62 @@
+package com.jong.h2_db.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    void idCursorRoundTrips() {
+        ProductCursor cursor = new ProductCursor(null, 7_345_678_901_234_567L);
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.hasPrice()).isFalse();
+    }
+
+    @Test
+    void priceAndIdCursorRoundTripsWithoutLosingScale() {
+        ProductCursor cursor = new ProductCursor(new BigDecimal("12500.50"), 42L);
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertThat(decoded.hasPrice()).isTrue();
+        assertThat(decoded.price()).isEqualByComparingTo("12500.50");
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        String token = new ProductCursor(new BigDecimal("99999999.99"), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingCursorStartsFromBeginning() {
+        assertThat(ProductCursor.decode(null)).isEqualTo(ProductCursor.START);
+        assertThat(ProductCursor.decode("")).isEqualTo(ProductCursor.START);
+        assertThat(ProductCursor.decode("  ")).isEqualTo(ProductCursor.START);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ProductCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(encode("abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(encode("1.5:x")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
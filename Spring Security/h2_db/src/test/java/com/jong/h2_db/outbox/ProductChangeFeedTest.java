@@ -0,0 +1,139 @@
+package com.jong.h2_db.outbox;
+
+import com.jong.h2_db.dto.ProductChange;
+import com.jong.h2_db.event.ProductChangeType;
+import com.jong.h2_db.repository.ProductOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private ProductOutboxRepository outboxRepository;
+    private ProductChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(ProductOutboxRepository.class);
+        when(outboxRepository.findLastSequence()).thenReturn(0L);
+        when(outboxRepository.findPublishedAfter(anyLong(), any())).thenReturn(List.of());
+        feed = new ProductChangeFeed(outboxRepository, BUFFER_SIZE);
+        feed.initialize();
+    }
+
+    @Test
+    void readReturnsBufferedChangesAfterOffset() {
+        feed.append(changes(1, 3));
+
+        assertThat(sequences(feed.read(0, 10))).containsExactly(1L, 2L, 3L);
+        assertThat(sequences(feed.read(1, 1))).containsExactly(2L);
+        assertThat(feed.read(3, 10)).isEmpty();
+        assertThat(feed.read(0, 0)).isEmpty();
+        assertThat(feed.head()).isEqualTo(3);
+        verify(outboxRepository, never()).findPublishedAfter(0L, PageRequest.ofSize(10));
+    }
+
+    @Test
+    void readFallsBackToOutboxTableOnceOffsetLeavesBuffer() {
+        feed.append(changes(1, 6));
+        when(outboxRepository.findPublishedAfter(0L, PageRequest.ofSize(2))).thenReturn(changes(1, 2));
+
+        // 버퍼에는 3 ~ 6 만 남아 있음
+        assertThat(sequences(feed.read(0, 2))).containsExactly(1L, 2L);
+        verify(outboxRepository).findPublishedAfter(0L, PageRequest.ofSize(2));
+
+        assertThat(sequences(feed.read(2, 10))).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void appendRejectsSequenceGaps() {
+        feed.append(changes(1, 1));
+
+        assertThatThrownBy(() -> feed.append(changes(3, 3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(feed.head()).isEqualTo(1);
+    }
+
+    @Test
+    void initializeRefillsBufferFromPublishedChanges() {
+        when(outboxRepository.findLastSequence()).thenReturn(5L);
+        when(outboxRepository.findPublishedAfter(1L, PageRequest.ofSize(BUFFER_SIZE))).thenReturn(changes(2, 5));
+        ProductChangeFeed restarted = new ProductChangeFeed(outboxRepository, BUFFER_SIZE);
+        restarted.initialize();
+
+        assertThat(restarted.isReady()).isTrue();
+        assertThat(restarted.head()).isEqualTo(5);
+        assertThat(sequences(restarted.read(1, 10))).containsExactly(2L, 3L, 4L, 5L);
+        verify(outboxRepository, never()).findPublishedAfter(1L, PageRequest.ofSize(10));
+
+        restarted.append(changes(6, 6));
+        assertThat(sequences(restarted.read(5, 10))).containsExactly(6L);
+    }
+
+    @Test
+    void deliverAdvancesOffsetOnlyAfterHandlerSucceeds() {
+        List<Long> delivered = new ArrayList<>();
+        boolean[] failNext = {true};
+        ProductChangeFeed.Subscription subscription = feed.subscribe("test", 0, changes -> {
+            if (failNext[0]) {
+                failNext[0] = false;
+                throw new IllegalStateException("일시적 실패");
+            }
+            delivered.addAll(sequences(changes));
+        });
+        feed.append(changes(1, 2));
+
+        feed.deliver();
+        assertThat(delivered).isEmpty();
+        assertThat(subscription.getOffset()).isZero();
+
+        feed.deliver();
+        assertThat(delivered).containsExactly(1L, 2L);
+        assertThat(subscription.getOffset()).isEqualTo(2);
+
+        feed.append(changes(3, 3));
+        feed.deliver();
+        assertThat(delivered).containsExactly(1L, 2L, 3L);
+        assertThat(subscription.getOffset()).isEqualTo(3);
+    }
+
+    @Test
+    void closedSubscriptionReceivesNothing() {
+        List<Long> delivered = new ArrayList<>();
+        ProductChangeFeed.Subscription subscription = feed.subscribe("closed", 0,
+                changes -> delivered.addAll(sequences(changes)));
+        subscription.close();
+        feed.append(changes(1, 2));
+
+        feed.deliver();
+
+        assertThat(delivered).isEmpty();
+    }
+
+    private static List<ProductChange> changes(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(sequence -> new ProductChange(sequence, 100 + sequence, ProductChangeType.UPDATED,
+                        LocalDateTime.now()))
+                .toList();
+    }
+
+    private static List<Long> sequences(List<ProductChange> changes) {
+        return changes.stream().map(ProductChange::sequence).toList();
+    }
+}
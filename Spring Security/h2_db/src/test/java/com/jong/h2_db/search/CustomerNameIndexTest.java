@@ -0,0 +1,89 @@
+package com.jong.h2_db.search;
+
+import com.jong.h2_db.model.Customer;
+import com.jong.h2_db.shard.CustomerShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CustomerNameIndexTest {
+
+    private CustomerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CustomerNameIndex(mock(CustomerShards.class));
+        index(1L, "김철수");
+        index(2L, "김치찌개");
+        index(3L, "박철수");
+        index(4L, "김철");
+        index(5L, "이수철");
+        index(6L, "Kim Cheolsu");
+    }
+
+    @Test
+    void initialsQueryMatchesByPrefixInNameOrder() {
+        assertThat(index.search("ㄱㅊㅅ", 10)).containsExactly(1L);
+        assertThat(index.search("ㄱㅊ", 10)).containsExactly(4L, 1L, 2L);
+        assertThat(index.search("ㄱㅊ", 2)).containsExactly(4L, 1L);
+        assertThat(index.search("ㅇㅅ", 10)).containsExactly(5L);
+    }
+
+    @Test
+    void mixedQueryComparesSyllablesAndInitialsPositionally() {
+        assertThat(index.search("김ㅊ", 10)).containsExactly(4L, 1L, 2L);
+        assertThat(index.search("박ㅊ", 10)).containsExactly(3L);
+        assertThat(index.search("김ㅊㅉ", 10)).containsExactly(2L);
+        assertThat(index.search("박ㅅ", 10)).isEmpty();
+    }
+
+    @Test
+    void syllableQueryMatchesSubstringsEarliestAndShortestFirst() {
+        assertThat(index.search("철수", 10)).containsExactly(1L, 3L);
+        assertThat(index.search("철", 10)).containsExactly(4L, 1L, 3L, 5L);
+        assertThat(index.search("철", 1)).containsExactly(4L);
+        assertThat(index.search("수철", 10)).containsExactly(5L);
+        assertThat(index.search("없음", 10)).isEmpty();
+    }
+
+    @Test
+    void queryIsNormalized() {
+        assertThat(index.search("김 철수", 10)).containsExactly(1L);
+        assertThat(index.search("KIM", 10)).containsExactly(6L);
+        // 조합형 초성 (U+1100 ~) 은 호환용 자모와 같게 취급
+        assertThat(index.search("ᄀᄎ", 10)).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void emptyQueryOrLimitReturnsNothing() {
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("철수", 0)).isEmpty();
+    }
+
+    @Test
+    void reindexReplacesPreviousName() {
+        index(1L, "최영희");
+
+        assertThat(index.search("철수", 10)).containsExactly(3L);
+        assertThat(index.search("ㄱㅊ", 10)).containsExactly(4L, 2L);
+        assertThat(index.search("ㅊㅇㅎ", 10)).containsExactly(1L);
+        assertThat(index.search("영희", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void initialsAreDerivedPerSyllable() {
+        assertThat(CustomerNameIndex.initials("김철수")).isEqualTo("ㄱㅊㅅ");
+        assertThat(CustomerNameIndex.initials("까치")).isEqualTo("ㄲㅊ");
+        assertThat(CustomerNameIndex.initials("a가")).isEqualTo("aㄱ");
+    }
+
+    private void index(Long id, String name) {
+        Customer customer = new Customer(name, id + "@example.com");
+        customer.setId(id);
+        index.index(customer);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jong.h2_db.snapshot;
+
+import com.jong.h2_db.model.ProductStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final byte ACTIVE = (byte) ProductStatus.ACTIVE.ordinal();
+    private static final byte INACTIVE = (byte) ProductStatus.INACTIVE.ordinal();
+
+    @Test
+    void queriesReturnIdsInPriceThenIdOrder() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(1, List.of(
+                row(4, 300, 0, ACTIVE),
+                row(1, 100, 5, ACTIVE),
+                row(3, 100, 20, ACTIVE),
+                row(2, 200, 0, INACTIVE)));
+
+        assertThat(snapshot.idsInPriceRange(100, 200, Integer.MAX_VALUE)).containsExactly(1, 3, 2);
+        assertThat(snapshot.activeIdsUnderPrice(300, Integer.MAX_VALUE)).containsExactly(1, 3);
+        assertThat(snapshot.activeIdsWithStockBelow(10, Integer.MAX_VALUE)).containsExactly(1, 4);
+        assertThat(snapshot.outOfStockIds(Integer.MAX_VALUE)).containsExactly(2, 4);
+        assertThat(snapshot.countByStatus(ProductStatus.ACTIVE)).isEqualTo(3);
+    }
+
+    @Test
+    void limitKeepsTheFirstMatches() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(1, List.of(
+                row(1, 100, 0, ACTIVE),
+                row(2, 200, 0, ACTIVE),
+                row(3, 300, 0, ACTIVE)));
+
+        assertThat(snapshot.idsInPriceRange(0, Long.MAX_VALUE, 2)).containsExactly(1, 2);
+        assertThat(snapshot.activeIdsUnderPrice(Long.MAX_VALUE, 1)).containsExactly(1);
+        assertThat(snapshot.activeIdsWithStockBelow(10, 2)).containsExactly(1, 2);
+        assertThat(snapshot.outOfStockIds(0)).isEmpty();
+    }
+
+    @Test
+    void withChangesUpdatesMovesInsertsAndRemovesRows() {
+        CatalogSnapshot base = CatalogSnapshot.of(1, List.of(
+                row(1, 100, 5, ACTIVE),
+                row(2, 200, 5, ACTIVE),
+                row(3, 300, 5, ACTIVE)));
+
+        // 1: 가격 변경으로 맨 뒤로 이동, 2: 삭제, 4: 신규
+        CatalogSnapshot updated = base.withChanges(2, new long[]{1, 2, 4},
+                List.of(row(1, 400, 0, ACTIVE), row(4, 150, 5, INACTIVE)));
+
+        assertThat(updated.version()).isEqualTo(2);
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.idsInPriceRange(0, Long.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(4, 3, 1);
+        assertThat(updated.outOfStockIds(Integer.MAX_VALUE)).containsExactly(1);
+        assertThat(updated.countByStatus(ProductStatus.INACTIVE)).isEqualTo(1);
+        // 원래 스냅샷은 그대로
+        assertThat(base.idsInPriceRange(0, Long.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void withChangesMatchesFullRebuild() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            Map<Long, CatalogSnapshot.Row> rows = new HashMap<>();
+            int initial = random.nextInt(100);
+            for (int i = 0; i < initial; i++) {
+                long id = random.nextInt(200);
+                rows.put(id, randomRow(random, id));
+            }
+            CatalogSnapshot base = CatalogSnapshot.of(1, new ArrayList<>(rows.values()));
+
+            int changes = random.nextInt(20);
+            long[] changedIds = new long[changes];
+            Set<Long> seen = new HashSet<>();
+            List<CatalogSnapshot.Row> changedRows = new ArrayList<>();
+            for (int i = 0; i < changes; i++) {
+                long id = random.nextInt(200);
+                changedIds[i] = id;
+                if (!seen.add(id)) {
+                    continue;
+                }
+                if (random.nextInt(4) == 0) {
+                    rows.remove(id);
+                } else {
+                    CatalogSnapshot.Row row = randomRow(random, id);
+                    rows.put(id, row);
+                    changedRows.add(row);
+                }
+            }
+
+            CatalogSnapshot delta = base.withChanges(2, changedIds, changedRows);
+            CatalogSnapshot full = CatalogSnapshot.of(2, new ArrayList<>(rows.values()));
+
+            assertThat(delta.size()).isEqualTo(full.size());
+            assertThat(delta.idsInPriceRange(0, Long.MAX_VALUE, Integer.MAX_VALUE))
+                    .containsExactly(full.idsInPriceRange(0, Long.MAX_VALUE, Integer.MAX_VALUE));
+            assertThat(delta.activeIdsWithStockBelow(10, Integer.MAX_VALUE))
+                    .containsExactly(full.activeIdsWithStockBelow(10, Integer.MAX_VALUE));
+            assertThat(delta.outOfStockIds(Integer.MAX_VALUE)).containsExactly(full.outOfStockIds(Integer.MAX_VALUE));
+            for (ProductStatus status : ProductStatus.values()) {
+                assertThat(delta.countByStatus(status)).isEqualTo(full.countByStatus(status));
+            }
+        }
+    }
+
+    private static CatalogSnapshot.Row randomRow(Random random, long id) {
+        return row(id, random.nextInt(50), random.nextInt(20), (byte) random.nextInt(ProductStatus.values().length));
+    }
+
+    private static CatalogSnapshot.Row row(long id, long priceCents, int stock, byte status) {
+        return new CatalogSnapshot.Row(id, priceCents, stock, status);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jong.h2_db.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void plainTermIsUnchanged() {
+        assertThat(LikePatterns.escape("노트북 pro")).isEqualTo("노트북 pro");
+    }
+
+    @Test
+    void wildcardsAreEscaped() {
+        assertThat(LikePatterns.escape("100%")).isEqualTo("100\\%");
+        assertThat(LikePatterns.escape("a_b")).isEqualTo("a\\_b");
+    }
+
+    @Test
+    void escapeCharacterIsEscapedFirst() {
+        assertThat(LikePatterns.escape("c:\\temp_%")).isEqualTo("c:\\\\temp\\_\\%");
+    }
+}
@@ -1,5 +1,7 @@
 package com.jong.lombok_slf4j.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class UserResponse {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
     private String username;
     private String email;
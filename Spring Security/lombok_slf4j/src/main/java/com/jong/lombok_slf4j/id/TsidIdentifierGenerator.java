@@ -0,0 +1,15 @@
+package com.jong.lombok_slf4j.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TsidId} 가 붙은 식별자에 DB 왕복 없이 TSID 를 채운다
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidGenerator.getDefault().next();
+    }
+}